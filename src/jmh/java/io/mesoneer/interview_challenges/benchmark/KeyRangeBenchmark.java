@@ -0,0 +1,140 @@
+package io.mesoneer.interview_challenges.benchmark;
+
+import io.mesoneer.interview_challenges.ComparatorRange;
+import io.mesoneer.interview_challenges.KeyRange;
+import io.mesoneer.interview_challenges.LongKeyRange;
+import io.mesoneer.interview_challenges.Range;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Range-checks orders by price: through a {@code Comparable} wrapper allocated
+ * per probe (what callers had to do before), and through the comparator,
+ * boxed key and primitive key ranges.
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyRangeBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    private Order[] orders;
+    private Range<PriceKey> wrapperRange;
+    private ComparatorRange<Order> comparatorRange;
+    private KeyRange<Order, Long> keyRange;
+    private LongKeyRange<Order> longKeyRange;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        orders = new Order[size];
+        for (int i = 0; i < size; i++) {
+            orders[i] = new Order(i, random.nextInt(100_000));
+        }
+        wrapperRange = Range.closedOpen(new PriceKey(25_000), new PriceKey(75_000));
+        comparatorRange = ComparatorRange.closedOpen(new Order(-1, 25_000), new Order(-1, 75_000),
+                Comparator.comparingLong(Order::price));
+        keyRange = KeyRange.of(Range.closedOpen(25_000L, 75_000L), Order::price);
+        longKeyRange = LongKeyRange.of(Range.closedOpen(25_000L, 75_000L), Order::price);
+    }
+
+    @Benchmark
+    public int wrapper() {
+        int count = 0;
+        for (Order order : orders) {
+            if (wrapperRange.contains(new PriceKey(order.price()))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int comparator() {
+        int count = 0;
+        for (Order order : orders) {
+            if (comparatorRange.contains(order)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int boxedKey() {
+        int count = 0;
+        for (Order order : orders) {
+            if (keyRange.contains(order)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int primitiveKey() {
+        int count = 0;
+        for (Order order : orders) {
+            if (longKeyRange.contains(order)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static final class Order {
+        private final long id;
+        private final long price;
+
+        Order(long id, long price) {
+            this.id = id;
+            this.price = price;
+        }
+
+        public long id() {
+            return id;
+        }
+
+        public long price() {
+            return price;
+        }
+    }
+
+    /**
+     * the adapter a caller needs to put an order's price into {@link Range}
+     */
+    public static final class PriceKey implements Comparable<PriceKey> {
+        private final long price;
+
+        PriceKey(long price) {
+            this.price = price;
+        }
+
+        @Override
+        public int compareTo(PriceKey other) {
+            return Long.compare(price, other.price);
+        }
+    }
+}
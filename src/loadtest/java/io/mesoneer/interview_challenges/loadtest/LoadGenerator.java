@@ -0,0 +1,149 @@
+package io.mesoneer.interview_challenges.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests at a fixed rate regardless of how fast responses come back.
+ * Response time is measured from the moment a request was <i>scheduled</i>,
+ * so a stalled server shows up in the tail instead of silently lowering the
+ * offered load. Service time is measured from the actual send.
+ *
+ * Requests that fail or time out are recorded in the response time with the
+ * time they took to fail. Requests dropped because {@code maxInFlight} were
+ * already outstanding have no measured latency, they are only counted and
+ * make the run invalid, see {@link LoadTestResult#valid()}.
+ */
+public class LoadGenerator {
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final LoadTestConfig config;
+    private final RequestGenerator requests;
+    private final HttpClient client;
+    private final URI target;
+
+    public LoadGenerator(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.requests = new RequestGenerator(config);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.target = URI.create(baseUrl + "/api/range");
+    }
+
+    public LoadTestResult run() throws InterruptedException {
+        if (config.warmupSeconds() > 0) {
+            drive(config.warmupSeconds());
+        }
+        return drive(config.durationSeconds());
+    }
+
+    private LoadTestResult drive(int seconds) throws InterruptedException {
+        LoadTestResult result = new LoadTestResult();
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        long interval = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long total = (long) config.rate() * seconds;
+        long start = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * interval;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            RequestGenerator.GeneratedRequest request = requests.next();
+            if (!inFlight.tryAcquire()) {
+                result.dropped.increment();
+                continue;
+            }
+            send(request, intendedStart, result, inFlight);
+        }
+        long sendingNanos = System.nanoTime() - start;
+
+        if (!inFlight.tryAcquire(config.maxInFlight(), 30, TimeUnit.SECONDS)) {
+            System.err.println("load test: gave up waiting for outstanding responses");
+        }
+        result.elapsedNanos = Math.max(sendingNanos, System.nanoTime() - start);
+        return result;
+    }
+
+    private void send(RequestGenerator.GeneratedRequest request, long intendedStart,
+                      LoadTestResult result, Semaphore inFlight) {
+        HttpRequest httpRequest = HttpRequest.newBuilder(target)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(request.body()))
+                .build();
+        long sent = System.nanoTime();
+        client.sendAsync(httpRequest, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long now = System.nanoTime();
+                    try {
+                        result.responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(now - intendedStart));
+                        if (error != null) {
+                            result.failed.increment();
+                            return;
+                        }
+                        result.serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(now - sent));
+                        int expected = request.valid() ? 200 : 500;
+                        if (response.statusCode() == expected) {
+                            (request.valid() ? result.ok : result.rejected).increment();
+                        } else {
+                            result.unexpected.increment();
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+    }
+
+    /**
+     * Counters and latency histograms (in microseconds) of one measured run,
+     * response time includes failed requests, service time only answered ones.
+     */
+    public static class LoadTestResult {
+        final Histogram responseTime = new ConcurrentHistogram(3);
+        final Histogram serviceTime = new ConcurrentHistogram(3);
+        final LongAdder ok = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder unexpected = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        long elapsedNanos;
+
+        public Histogram responseTime() {
+            return responseTime;
+        }
+
+        public Histogram serviceTime() {
+            return serviceTime;
+        }
+
+        public long completed() {
+            return ok.sum() + rejected.sum() + unexpected.sum();
+        }
+
+        public double throughput() {
+            return completed() / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * A run that dropped requests did not offer the configured rate and its
+         * latencies miss the requests that would have waited longest.
+         */
+        public boolean valid() {
+            return dropped.sum() == 0;
+        }
+    }
+}
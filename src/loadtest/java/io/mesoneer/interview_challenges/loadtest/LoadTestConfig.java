@@ -0,0 +1,155 @@
+package io.mesoneer.interview_challenges.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties so that
+ * every run can be reproduced from its report header.
+ */
+public class LoadTestConfig {
+    static final String PREFIX = "loadtest.";
+
+    private final String url;
+    private final int rate;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final long seed;
+    private final double invalidRatio;
+    private final int maxInFlight;
+    private final Map<String, Integer> types;
+    private final Map<String, Integer> shapes;
+    private final Path reportDir;
+    private final Path baseline;
+
+    private LoadTestConfig(Properties properties) {
+        this.url = properties.getProperty(PREFIX + "url");
+        this.rate = Integer.parseInt(properties.getProperty(PREFIX + "rate", "200"));
+        this.warmupSeconds = Integer.parseInt(properties.getProperty(PREFIX + "warmupSeconds", "5"));
+        this.durationSeconds = Integer.parseInt(properties.getProperty(PREFIX + "durationSeconds", "30"));
+        this.seed = Long.parseLong(properties.getProperty(PREFIX + "seed", "42"));
+        this.invalidRatio = Double.parseDouble(properties.getProperty(PREFIX + "invalidRatio", "0.05"));
+        this.maxInFlight = Integer.parseInt(properties.getProperty(PREFIX + "maxInFlight", "1000"));
+        this.types = parseWeights(properties.getProperty(PREFIX + "types",
+                "Integer.class:4,Double.class:1,BigDecimal.class:1,BigInteger.class:1,"
+                        + "Float.class:1,String.class:2,LocalDate.class:2"));
+        this.shapes = parseWeights(properties.getProperty(PREFIX + "shapes",
+                "CLOSED:1,OPEN:1,OPEN_CLOSED:1,CLOSED_OPEN:1,LESS_THAN:1,"
+                        + "AT_LEAST:1,AT_MOST:1,GREATER_THAN:1,ALL:1"));
+        this.reportDir = Paths.get(properties.getProperty(PREFIX + "reportDir", "build/loadtest"));
+        String baselineFile = properties.getProperty(PREFIX + "baseline");
+        this.baseline = baselineFile == null ? null : Paths.get(baselineFile);
+
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        if (durationSeconds <= 0) {
+            throw new IllegalArgumentException("durationSeconds must be positive");
+        }
+        if (warmupSeconds < 0) {
+            throw new IllegalArgumentException("warmupSeconds must not be negative");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        if (invalidRatio < 0 || invalidRatio > 1) {
+            throw new IllegalArgumentException("invalidRatio must be between 0 and 1");
+        }
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return fromProperties(System.getProperties());
+    }
+
+    static LoadTestConfig fromProperties(Properties properties) {
+        return new LoadTestConfig(properties);
+    }
+
+    /**
+     * Parse a weighted list such as {@code Integer.class:4,String.class:1}.
+     * An entry without weight counts as 1.
+     */
+    static Map<String, Integer> parseWeights(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String item : value.split(",")) {
+            String trimmed = item.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.lastIndexOf(':');
+            if (separator < 0) {
+                weights.put(trimmed, 1);
+            } else {
+                weights.put(trimmed.substring(0, separator), Integer.parseInt(trimmed.substring(separator + 1)));
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("weighted list must not be empty: " + value);
+        }
+        return weights;
+    }
+
+    /**
+     * Settings as ordered key/value pairs, written at the top of every report.
+     */
+    public Map<String, String> describe() {
+        Map<String, String> description = new LinkedHashMap<>();
+        description.put("url", url == null ? "local RangeApplication" : url);
+        description.put("rate", String.valueOf(rate));
+        description.put("warmupSeconds", String.valueOf(warmupSeconds));
+        description.put("durationSeconds", String.valueOf(durationSeconds));
+        description.put("seed", String.valueOf(seed));
+        description.put("invalidRatio", String.valueOf(invalidRatio));
+        description.put("maxInFlight", String.valueOf(maxInFlight));
+        description.put("types", types.toString());
+        description.put("shapes", shapes.toString());
+        return description;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public int rate() {
+        return rate;
+    }
+
+    public int warmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int durationSeconds() {
+        return durationSeconds;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public double invalidRatio() {
+        return invalidRatio;
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    public Map<String, Integer> types() {
+        return types;
+    }
+
+    public Map<String, Integer> shapes() {
+        return shapes;
+    }
+
+    public Path reportDir() {
+        return reportDir;
+    }
+
+    public Path baseline() {
+        return baseline;
+    }
+}
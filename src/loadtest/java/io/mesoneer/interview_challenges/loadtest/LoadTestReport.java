@@ -0,0 +1,116 @@
+package io.mesoneer.interview_challenges.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Writes a run as {@code report.properties} (flat summary, easy to diff or
+ * compare against a baseline) plus one {@code .hgrm} percentile distribution
+ * per histogram that can be plotted with the HdrHistogram tools.
+ */
+public class LoadTestReport {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99, 100};
+    private static final String VALID = "valid";
+
+    private final LoadTestConfig config;
+    private final LoadGenerator.LoadTestResult result;
+
+    public LoadTestReport(LoadTestConfig config, LoadGenerator.LoadTestResult result) {
+        this.config = config;
+        this.result = result;
+    }
+
+    public Properties summary() {
+        Properties summary = new Properties();
+        config.describe().forEach((key, value) -> summary.setProperty("config." + key, value));
+        summary.setProperty("count.ok", String.valueOf(result.ok.sum()));
+        summary.setProperty("count.rejected", String.valueOf(result.rejected.sum()));
+        summary.setProperty("count.unexpected", String.valueOf(result.unexpected.sum()));
+        summary.setProperty("count.failed", String.valueOf(result.failed.sum()));
+        summary.setProperty("count.dropped", String.valueOf(result.dropped.sum()));
+        summary.setProperty(VALID, String.valueOf(result.valid()));
+        summary.setProperty("throughput", String.format("%.1f", result.throughput()));
+        addPercentiles(summary, "responseTime", result.responseTime());
+        addPercentiles(summary, "serviceTime", result.serviceTime());
+        return summary;
+    }
+
+    private static void addPercentiles(Properties summary, String name, Histogram histogram) {
+        for (double percentile : PERCENTILES) {
+            summary.setProperty(name + ".p" + percentile + ".us",
+                    String.valueOf(histogram.getValueAtPercentile(percentile)));
+        }
+    }
+
+    /**
+     * @return the directory the report was written to
+     */
+    public Path write() throws IOException {
+        Path dir = config.reportDir().resolve(
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(dir);
+        try (Writer writer = Files.newBufferedWriter(dir.resolve("report.properties"), StandardCharsets.UTF_8)) {
+            summary().store(writer, "range load test");
+        }
+        writeDistribution(dir.resolve("responseTime.hgrm"), result.responseTime());
+        writeDistribution(dir.resolve("serviceTime.hgrm"), result.serviceTime());
+        return dir;
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    /**
+     * Print the summary, with the relative change of every numeric value
+     * when a baseline report is configured.
+     */
+    public void print(PrintStream out) throws IOException {
+        Properties baseline = null;
+        if (config.baseline() != null) {
+            baseline = new Properties();
+            try (Reader reader = Files.newBufferedReader(config.baseline(), StandardCharsets.UTF_8)) {
+                baseline.load(reader);
+            }
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        summary().forEach((key, value) -> sorted.put((String) key, (String) value));
+        for (Map.Entry<String, String> entry : sorted.entrySet()) {
+            String line = String.format("%-28s %s", entry.getKey(), entry.getValue());
+            if (baseline != null && !entry.getKey().startsWith("config.") && !entry.getKey().equals(VALID)) {
+                line += delta(baseline.getProperty(entry.getKey()), entry.getValue());
+            }
+            out.println(line);
+        }
+        if (!result.valid()) {
+            out.println("INVALID RUN: " + result.dropped.sum() + " requests dropped at maxInFlight="
+                    + config.maxInFlight() + ", latencies do not include them");
+        }
+    }
+
+    private static String delta(String before, String after) {
+        if (before == null) {
+            return "";
+        }
+        double previous = Double.parseDouble(before);
+        double current = Double.parseDouble(after);
+        if (previous == 0) {
+            return String.format("   (baseline %s)", before);
+        }
+        return String.format("   (baseline %s, %+.1f%%)", before, (current - previous) * 100 / previous);
+    }
+}
@@ -0,0 +1,41 @@
+package io.mesoneer.interview_challenges.loadtest;
+
+import io.mesoneer.interview_challenges.RangeApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+
+/**
+ * Entry point of the {@code loadTest} Gradle task.
+ *
+ * <pre>
+ * ./gradlew loadTest -Dloadtest.rate=500 -Dloadtest.durationSeconds=60
+ * ./gradlew loadTest -Dloadtest.baseline=build/loadtest/20240101-120000/report.properties
+ * </pre>
+ *
+ * Without {@code loadtest.url} a {@link RangeApplication} is started in this
+ * JVM on a random port and stopped when the run is over.
+ */
+public class RangeLoadTest {
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        String url = config.url();
+        if (url == null) {
+            context = SpringApplication.run(RangeApplication.class, "--server.port=0");
+            url = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+        try {
+            LoadGenerator.LoadTestResult result = new LoadGenerator(config, url).run();
+            LoadTestReport report = new LoadTestReport(config, result);
+            Path dir = report.write();
+            report.print(System.out);
+            System.out.println("report written to " + dir);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+}
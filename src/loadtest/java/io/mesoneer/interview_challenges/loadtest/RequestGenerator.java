@@ -0,0 +1,182 @@
+package io.mesoneer.interview_challenges.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.mesoneer.interview_challenges.EnumType;
+import io.mesoneer.interview_challenges.Range;
+import io.mesoneer.interview_challenges.RangeRequest;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Produces {@code /api/range} request bodies from a seeded {@link Random},
+ * the same seed and mix always give the same sequence of requests.
+ */
+public class RequestGenerator {
+    private static final Map<String, Function<Random, Comparable<?>>> VALUES = new HashMap<>();
+
+    static {
+        VALUES.put("Integer.class", random -> random.nextInt(2001) - 1000);
+        VALUES.put("Double.class", random -> (random.nextInt(200001) - 100000) / 100.0);
+        VALUES.put("Float.class", random -> (random.nextInt(200001) - 100000) / 100.0f);
+        VALUES.put("BigDecimal.class", random -> BigDecimal.valueOf(random.nextInt(20000001) - 10000000L, 4));
+        VALUES.put("BigInteger.class", random -> new BigInteger(80, random));
+        VALUES.put("String.class", RequestGenerator::word);
+        VALUES.put("LocalDate.class", random -> LocalDate.ofEpochDay(10957 + random.nextInt(11323)));
+    }
+
+    private static final String[] INVALID_REQUESTS = {
+            "[9, 1]|5|Integer.class",
+            "[1, 9]|5|Short.class",
+            "5..9|5|Integer.class",
+            "[1, 9]|five|Integer.class",
+            "[2020-01-01, 2019-01-01]|2020-01-01|LocalDate.class"
+    };
+
+    private final Random random;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Weighted<String> types;
+    private final Weighted<EnumType> shapes;
+    private final double invalidRatio;
+
+    public RequestGenerator(LoadTestConfig config) {
+        this.random = new Random(config.seed());
+        this.invalidRatio = config.invalidRatio();
+
+        Map<String, Integer> typeWeights = config.types();
+        for (String type : typeWeights.keySet()) {
+            if (!VALUES.containsKey(type)) {
+                throw new IllegalArgumentException("unsupported type in load test mix: " + type);
+            }
+        }
+        this.types = new Weighted<>(typeWeights);
+
+        Map<EnumType, Integer> shapeWeights = new EnumMap<>(EnumType.class);
+        config.shapes().forEach((shape, weight) -> shapeWeights.put(EnumType.valueOf(shape), weight));
+        this.shapes = new Weighted<>(shapeWeights);
+    }
+
+    public GeneratedRequest next() {
+        if (random.nextDouble() < invalidRatio) {
+            String[] parts = INVALID_REQUESTS[random.nextInt(INVALID_REQUESTS.length)].split("\\|");
+            return new GeneratedRequest(toJson(new RangeRequest(parts[0], parts[1], parts[2])), false);
+        }
+        String type = types.pick(random);
+        Function<Random, Comparable<?>> values = VALUES.get(type);
+        return new GeneratedRequest(toJson(validRequest(type, shapes.pick(random), values)), true);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private RangeRequest validRequest(String type, EnumType shape, Function<Random, Comparable<?>> values) {
+        Comparable first = values.apply(random);
+        Comparable second = values.apply(random);
+        Comparable lower = first.compareTo(second) <= 0 ? first : second;
+        Comparable upper = first.compareTo(second) <= 0 ? second : first;
+        if (lower.equals(upper) && shape == EnumType.OPEN) {
+            shape = EnumType.CLOSED;
+        }
+        Comparable probe = values.apply(random);
+        return new RangeRequest(range(shape, lower, upper).toString(), probe.toString(), type);
+    }
+
+    private static <T extends Comparable<? super T>> Range<T> range(EnumType shape, T lower, T upper) {
+        switch (shape) {
+            case OPEN:
+                return Range.open(lower, upper);
+            case OPEN_CLOSED:
+                return Range.openClosed(lower, upper);
+            case CLOSED_OPEN:
+                return Range.closedOpen(lower, upper);
+            case LESS_THAN:
+                return Range.lessThan(upper);
+            case AT_LEAST:
+                return Range.atLeast(lower);
+            case AT_MOST:
+                return Range.atMost(upper);
+            case GREATER_THAN:
+                return Range.greaterThan(lower);
+            case ALL:
+                return Range.all();
+            case CLOSED:
+                return Range.closed(lower, upper);
+            default:
+                throw new IllegalArgumentException("unsupported shape in load test mix: " + shape);
+        }
+    }
+
+    private static String word(Random random) {
+        char[] letters = new char[1 + random.nextInt(6)];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+
+    private String toJson(RangeRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public static class GeneratedRequest {
+        private final String body;
+        private final boolean valid;
+
+        GeneratedRequest(String body, boolean valid) {
+            this.body = body;
+            this.valid = valid;
+        }
+
+        public String body() {
+            return body;
+        }
+
+        /**
+         * valid requests are expected to return 200, invalid ones 500
+         */
+        public boolean valid() {
+            return valid;
+        }
+    }
+
+    private static class Weighted<E> {
+        private final List<E> items = new ArrayList<>();
+        private final List<Integer> cumulative = new ArrayList<>();
+        private int total;
+
+        Weighted(Map<E, Integer> weights) {
+            weights.forEach((item, weight) -> {
+                if (weight <= 0) {
+                    return;
+                }
+                total += weight;
+                items.add(item);
+                cumulative.add(total);
+            });
+            if (total == 0) {
+                throw new IllegalArgumentException("weighted list must have a positive weight");
+            }
+        }
+
+        E pick(Random random) {
+            int target = random.nextInt(total);
+            for (int i = 0; i < cumulative.size(); i++) {
+                if (target < cumulative.get(i)) {
+                    return items.get(i);
+                }
+            }
+            return items.get(items.size() - 1);
+        }
+    }
+}
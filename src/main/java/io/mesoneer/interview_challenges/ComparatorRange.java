@@ -0,0 +1,109 @@
+package io.mesoneer.interview_challenges;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * A {@link Range} ordered by a {@link Comparator} instead of the natural order,
+ * for types that are not {@code Comparable} or need a custom collation.
+ */
+public class ComparatorRange<T> implements Predicate<T> {
+  private final T lowerBound;
+  private final T upperBound;
+  private final Comparator<? super T> comparator;
+  private final EnumType type;
+
+  private ComparatorRange(T lowerBound, T upperBound, Comparator<? super T> comparator, EnumType type){
+    if(lowerBound != null
+            && upperBound != null
+            && comparator.compare(lowerBound, upperBound) > 0){
+      throw new IllegalArgumentException(EnumException.INVALID_BOUND_EXCEPTION.name());
+    }
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+    this.comparator = comparator;
+    this.type = type;
+  }
+
+  public static <T> ComparatorRange<T> closed(T lowerBound, T upperBound, Comparator<? super T> comparator){
+    return new ComparatorRange<T>(lowerBound, upperBound, comparator, EnumType.CLOSED);
+  }
+
+  public static <T> ComparatorRange<T> open(T lowerBound, T upperBound, Comparator<? super T> comparator){
+    return new ComparatorRange<T>(lowerBound, upperBound, comparator, EnumType.OPEN);
+  }
+
+  public static <T> ComparatorRange<T> openClosed(T lowerBound, T upperBound, Comparator<? super T> comparator){
+    return new ComparatorRange<T>(lowerBound, upperBound, comparator, EnumType.OPEN_CLOSED);
+  }
+
+  public static <T> ComparatorRange<T> closedOpen(T lowerBound, T upperBound, Comparator<? super T> comparator){
+    return new ComparatorRange<T>(lowerBound, upperBound, comparator, EnumType.CLOSED_OPEN);
+  }
+
+  public static <T> ComparatorRange<T> lessThan(T upperBound, Comparator<? super T> comparator){
+    return new ComparatorRange<T>(null, upperBound, comparator, EnumType.LESS_THAN);
+  }
+
+  public static <T> ComparatorRange<T> atLeast(T lowerBound, Comparator<? super T> comparator){
+    return new ComparatorRange<T>(lowerBound, null, comparator, EnumType.AT_LEAST);
+  }
+
+  public static <T> ComparatorRange<T> atMost(T upperBound, Comparator<? super T> comparator){
+    return new ComparatorRange<T>(null, upperBound, comparator, EnumType.AT_MOST);
+  }
+
+  public static <T> ComparatorRange<T> greaterThan(T lowerBound, Comparator<? super T> comparator){
+    return new ComparatorRange<T>(lowerBound, null, comparator, EnumType.GREATER_THAN);
+  }
+
+  public static <T> ComparatorRange<T> all(Comparator<? super T> comparator){
+    return new ComparatorRange<T>(null, null, comparator, EnumType.ALL);
+  }
+
+  /**
+   * Returns {@code true} on if the given {@code value} is contained in this
+   * {@code ComparatorRange}.
+   */
+  public boolean contains(T value) {
+    return Range.contains(this.type, this.lowerBound, this.upperBound, value, this.comparator);
+  }
+
+  @Override
+  public boolean test(T value) {
+    return contains(value);
+  }
+
+  public T lowerbound() {
+    return this.lowerBound;
+  }
+
+  public T upperbound() {
+    return this.upperBound;
+  }
+
+  public Comparator<? super T> comparator() {
+    return this.comparator;
+  }
+
+  public boolean hasLowerBound() {
+    return this.type.hasLowerBound();
+  }
+
+  public boolean hasUpperBound() {
+    return this.type.hasUpperBound();
+  }
+
+  public boolean isLowerBoundClosed() {
+    return this.type.isLowerBoundClosed();
+  }
+
+  public boolean isUpperBoundClosed() {
+    return this.type.isUpperBoundClosed();
+  }
+
+  @Override
+  public String toString(){
+    return Range.format(this.type, this.lowerBound, this.upperBound);
+  }
+}
@@ -2,5 +2,7 @@ package io.mesoneer.interview_challenges;
 
 public enum EnumException {
     INVALID_BOUND_EXCEPTION,
-    CLASS_NOT_FOUND_EXCEPTION
+    CLASS_NOT_FOUND_EXCEPTION,
+    RULE_NOT_FOUND_EXCEPTION,
+    INVALID_RULE_EXCEPTION
 }
@@ -12,6 +12,22 @@ public enum EnumType {
     ALL,
     INVALID_TYPE;
 
+    public boolean hasLowerBound() {
+        return this != LESS_THAN && this != AT_MOST && this != ALL;
+    }
+
+    public boolean hasUpperBound() {
+        return this != AT_LEAST && this != GREATER_THAN && this != ALL;
+    }
+
+    public boolean isLowerBoundClosed() {
+        return this == CLOSED || this == CLOSED_OPEN || this == AT_LEAST;
+    }
+
+    public boolean isUpperBoundClosed() {
+        return this == CLOSED || this == OPEN_CLOSED || this == AT_MOST;
+    }
+
     public enum EnumRange {
         INFINITIVE("Infinitive");
         private String value;
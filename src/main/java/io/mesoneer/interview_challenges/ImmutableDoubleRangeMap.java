@@ -0,0 +1,86 @@
+package io.mesoneer.interview_challenges;
+
+/**
+ * Read-only {@link RangeMap} for {@code Double} and {@code Float} keys, stored as
+ * sorted {@code double[]} bounds with one closed flag per bound so that
+ * {@link #get(double)} is a binary search without boxing. Bounds are compared
+ * with {@link Double#compare}, the order of the copied {@code RangeMap}, so
+ * {@code -0.0} lies below {@code 0.0} and {@code NaN} above every other value.
+ *
+ * {@code BigDecimal} keys are not accepted: converting them to {@code double}
+ * rounds bounds such as {@code 0.1}, which would move points across a bound.
+ */
+public final class ImmutableDoubleRangeMap<V> {
+
+  private final double[] lowers;
+  private final boolean[] lowerClosed;
+  private final double[] uppers;
+  private final boolean[] upperClosed;
+  private final Object[] values;
+
+  private ImmutableDoubleRangeMap(int size) {
+    this.lowers = new double[size];
+    this.lowerClosed = new boolean[size];
+    this.uppers = new double[size];
+    this.upperClosed = new boolean[size];
+    this.values = new Object[size];
+  }
+
+  /**
+   * Copy a {@link RangeMap} with {@code Double} or {@code Float} keys.
+   */
+  public static <K extends Comparable<? super K>, V> ImmutableDoubleRangeMap<V> copyOf(RangeMap<K, V> map) {
+    ImmutableDoubleRangeMap<V> copy = new ImmutableDoubleRangeMap<>(map.size());
+    int[] index = {0};
+    map.forEach((range, value) -> {
+      int i = index[0]++;
+      copy.lowers[i] = range.hasLowerBound() ? toDouble(range.lowerbound()) : Double.NEGATIVE_INFINITY;
+      copy.lowerClosed[i] = !range.hasLowerBound() || range.isLowerBoundClosed();
+      // Double.compare orders NaN above infinity, as Double.compareTo does in RangeMap
+      copy.uppers[i] = range.hasUpperBound() ? toDouble(range.upperbound()) : Double.NaN;
+      copy.upperClosed[i] = !range.hasUpperBound() || range.isUpperBoundClosed();
+      copy.values[i] = value;
+    });
+    return copy;
+  }
+
+  /**
+   * Returns the value of the range containing {@code point}, or {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public V get(double point) {
+    // last range whose lower bound is reached, ranges come in RangeMap order
+    // so on an equal lower value the closed one comes first
+    int low = 0;
+    int high = lowers.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      int cmp = Double.compare(lowers[mid], point);
+      if (cmp < 0 || (cmp == 0 && lowerClosed[mid])) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    int index = low - 1;
+    if (index < 0) {
+      return null;
+    }
+    int cmp = Double.compare(point, uppers[index]);
+    if (cmp > 0 || (cmp == 0 && !upperClosed[index])) {
+      return null;
+    }
+    return (V) values[index];
+  }
+
+  public int size() {
+    return lowers.length;
+  }
+
+  private static double toDouble(Object bound) {
+    if (!(bound instanceof Double || bound instanceof Float)) {
+      throw new IllegalArgumentException(EnumException.CLASS_NOT_FOUND_EXCEPTION.name());
+    }
+    return ((Number) bound).doubleValue();
+  }
+}
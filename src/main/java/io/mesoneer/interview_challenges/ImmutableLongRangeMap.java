@@ -0,0 +1,87 @@
+package io.mesoneer.interview_challenges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read-only {@link RangeMap} for integral keys, stored as sorted {@code long[]}
+ * bounds so that {@link #get(long)} is a binary search without boxing.
+ *
+ * Since the keys are integral every bound is normalized to a closed one,
+ * e.g. {@code (5, 10)} is stored as {@code [6, 9]}. Floating point keys use
+ * {@link ImmutableDoubleRangeMap}, which keeps the open/closed flags instead.
+ */
+public final class ImmutableLongRangeMap<V> {
+
+  private final long[] lowers;
+  private final long[] uppers;
+  private final Object[] values;
+
+  private ImmutableLongRangeMap(long[] lowers, long[] uppers, Object[] values) {
+    this.lowers = lowers;
+    this.uppers = uppers;
+    this.values = values;
+  }
+
+  /**
+   * Copy a {@link RangeMap} with {@code Long}, {@code Integer}, {@code Short} or {@code Byte} keys.
+   */
+  public static <K extends Comparable<? super K>, V> ImmutableLongRangeMap<V> copyOf(RangeMap<K, V> map) {
+    List<long[]> bounds = new ArrayList<>(map.size());
+    List<V> values = new ArrayList<>(map.size());
+    map.forEach((range, value) -> {
+      long lower;
+      long upper;
+      try {
+        lower = range.hasLowerBound()
+                ? Math.addExact(toLong(range.lowerbound()), range.isLowerBoundClosed() ? 0 : 1)
+                : Long.MIN_VALUE;
+        upper = range.hasUpperBound()
+                ? Math.subtractExact(toLong(range.upperbound()), range.isUpperBoundClosed() ? 0 : 1)
+                : Long.MAX_VALUE;
+      } catch (ArithmeticException ex) {
+        // an open end at Long.MIN_VALUE or Long.MAX_VALUE contains no point
+        return;
+      }
+      if (lower <= upper) {
+        bounds.add(new long[]{lower, upper});
+        values.add(value);
+      }
+    });
+
+    long[] lowers = new long[bounds.size()];
+    long[] uppers = new long[bounds.size()];
+    for (int i = 0; i < bounds.size(); i++) {
+      lowers[i] = bounds.get(i)[0];
+      uppers[i] = bounds.get(i)[1];
+    }
+    return new ImmutableLongRangeMap<>(lowers, uppers, values.toArray());
+  }
+
+  /**
+   * Returns the value of the range containing {@code point}, or {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public V get(long point) {
+    int index = Arrays.binarySearch(lowers, point);
+    if (index < 0) {
+      index = -index - 2;
+    }
+    if (index < 0 || point > uppers[index]) {
+      return null;
+    }
+    return (V) values[index];
+  }
+
+  public int size() {
+    return lowers.length;
+  }
+
+  private static long toLong(Object bound) {
+    if (!(bound instanceof Long || bound instanceof Integer || bound instanceof Short || bound instanceof Byte)) {
+      throw new IllegalArgumentException(EnumException.CLASS_NOT_FOUND_EXCEPTION.name());
+    }
+    return ((Number) bound).longValue();
+  }
+}
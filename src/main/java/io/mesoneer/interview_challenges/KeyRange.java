@@ -0,0 +1,43 @@
+package io.mesoneer.interview_challenges;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Checks objects against a {@link Range} over one of their fields, e.g. orders
+ * by price, without wrapping every object in a {@code Comparable} adapter.
+ */
+public class KeyRange<T, K extends Comparable<? super K>> implements Predicate<T> {
+  private final Range<K> range;
+  private final Function<? super T, ? extends K> key;
+
+  private KeyRange(Range<K> range, Function<? super T, ? extends K> key){
+    this.range = range;
+    this.key = key;
+  }
+
+  public static <T, K extends Comparable<? super K>> KeyRange<T, K> of(Range<K> range, Function<? super T, ? extends K> key){
+    return new KeyRange<T, K>(range, key);
+  }
+
+  /**
+   * Returns {@code true} if the key of {@code value} is contained in the range.
+   */
+  public boolean contains(T value) {
+    return range.contains(key.apply(value));
+  }
+
+  @Override
+  public boolean test(T value) {
+    return contains(value);
+  }
+
+  public Range<K> range() {
+    return this.range;
+  }
+
+  @Override
+  public String toString(){
+    return range.toString();
+  }
+}
@@ -0,0 +1,66 @@
+package io.mesoneer.interview_challenges;
+
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link KeyRange} for a primitive {@code long} key: the bounds are normalized
+ * to a closed {@code [lower, upper]} pair of longs once, so {@link #contains}
+ * is two primitive comparisons without boxing or a switch on the range type.
+ */
+public class LongKeyRange<T> implements Predicate<T> {
+  private final Range<Long> range;
+  private final ToLongFunction<? super T> key;
+  private final long lower;
+  private final long upper;
+
+  private LongKeyRange(Range<Long> range, ToLongFunction<? super T> key){
+    this.range = range;
+    this.key = key;
+    long lower;
+    long upper;
+    try {
+      lower = range.hasLowerBound()
+              ? Math.addExact(range.lowerbound(), range.isLowerBoundClosed() ? 0 : 1)
+              : Long.MIN_VALUE;
+      upper = range.hasUpperBound()
+              ? Math.subtractExact(range.upperbound(), range.isUpperBoundClosed() ? 0 : 1)
+              : Long.MAX_VALUE;
+    } catch (ArithmeticException ex) {
+      // an open end at Long.MIN_VALUE or Long.MAX_VALUE contains no key
+      lower = Long.MAX_VALUE;
+      upper = Long.MIN_VALUE;
+    }
+    this.lower = lower;
+    this.upper = upper;
+  }
+
+  public static <T> LongKeyRange<T> of(Range<Long> range, ToLongFunction<? super T> key){
+    return new LongKeyRange<T>(range, key);
+  }
+
+  /**
+   * Returns {@code true} if the key of {@code value} is contained in the range.
+   */
+  public boolean contains(T value) {
+    return containsKey(key.applyAsLong(value));
+  }
+
+  public boolean containsKey(long value) {
+    return lower <= value && value <= upper;
+  }
+
+  @Override
+  public boolean test(T value) {
+    return contains(value);
+  }
+
+  public Range<Long> range() {
+    return this.range;
+  }
+
+  @Override
+  public String toString(){
+    return range.toString();
+  }
+}
@@ -2,8 +2,10 @@ package io.mesoneer.interview_challenges;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
@@ -28,6 +30,7 @@ public class Range <T extends Comparable<? super T>>{
     PARSERS.put(String.class, String::valueOf);
     PARSERS.put(Double.class, Double::new);
     PARSERS.put(LocalDate.class, LocalDateFormat::parseDate);
+    PARSERS.put(Instant.class, Instant::parse);
 
   }
 
@@ -98,34 +101,41 @@ public class Range <T extends Comparable<? super T>>{
    * {@code Range}.
    */
   public boolean contains(T value) {
-    switch (this.type){
+    return contains(this.type, this.lowerBound, this.upperBound, value, Comparator.<T>naturalOrder());
+  }
+
+  /**
+   * Bound checks shared with the other range types, {@code Range} itself compares in natural order.
+   */
+  static <T> boolean contains(EnumType type, T lowerBound, T upperBound, T value, Comparator<? super T> comparator) {
+    switch (type){
       case OPEN:
-        return this.lowerBound.compareTo(value) < 0
-              && 0 < this.upperBound.compareTo(value);
+        return comparator.compare(lowerBound, value) < 0
+              && 0 < comparator.compare(upperBound, value);
 
       case CLOSED:
-        return this.lowerBound.compareTo(value) <= 0
-              && 0 <= this.upperBound.compareTo(value);
+        return comparator.compare(lowerBound, value) <= 0
+              && 0 <= comparator.compare(upperBound, value);
 
       case OPEN_CLOSED:
-        return this.lowerBound.compareTo(value) < 0
-              && 0 <= this.upperBound.compareTo(value);
+        return comparator.compare(lowerBound, value) < 0
+              && 0 <= comparator.compare(upperBound, value);
 
       case CLOSED_OPEN:
-        return this.lowerBound.compareTo(value) <= 0
-              && 0 < this.upperBound.compareTo(value);
+        return comparator.compare(lowerBound, value) <= 0
+              && 0 < comparator.compare(upperBound, value);
 
       case LESS_THAN:
-        return this.upperBound.compareTo(value) > 0;
+        return comparator.compare(upperBound, value) > 0;
 
       case AT_LEAST:
-        return this.lowerBound.compareTo(value) <= 0;
+        return comparator.compare(lowerBound, value) <= 0;
 
       case AT_MOST:
-        return this.upperBound.compareTo(value) >= 0;
+        return comparator.compare(upperBound, value) >= 0;
 
       case GREATER_THAN:
-        return this.lowerBound.compareTo(value) < 0;
+        return comparator.compare(lowerBound, value) < 0;
 
       case ALL: return true;
     }
@@ -145,13 +155,48 @@ public class Range <T extends Comparable<? super T>>{
   public T upperbound() {
     return this.upperBound;
   }
+
+  /**
+   * Returns {@code true} if this {@code Range} is limited from below.
+   */
+  public boolean hasLowerBound() {
+    return this.type.hasLowerBound();
+  }
+
+  /**
+   * Returns {@code true} if this {@code Range} is limited from above.
+   */
+  public boolean hasUpperBound() {
+    return this.type.hasUpperBound();
+  }
+
+  /**
+   * Returns {@code true} if the {@code lowerbound} itself is contained in this {@code Range}.
+   */
+  public boolean isLowerBoundClosed() {
+    return this.type.isLowerBoundClosed();
+  }
+
+  /**
+   * Returns {@code true} if the {@code upperbound} itself is contained in this {@code Range}.
+   */
+  public boolean isUpperBoundClosed() {
+    return this.type.isUpperBoundClosed();
+  }
   @Override
   public String toString(){
+    return format(this.type, this.lowerBound, this.upperBound);
+  }
+
+  /**
+   * Format bounds in the notation read by {@code parse}, shared with the other range types.
+   */
+  static String format(EnumType type, Object lowerBound, Object upperBound){
     String result;
 
     String infinitive = EnumType.EnumRange.INFINITIVE.getValue();
 
-    switch (this.type){
+    switch (type){
       case OPEN:
         result = "(" + lowerBound.toString() + ", " + upperBound.toString() + ")";
         break;
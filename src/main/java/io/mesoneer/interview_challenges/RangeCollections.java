@@ -0,0 +1,177 @@
+package io.mesoneer.interview_challenges;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Helpers to apply a {@link Range} to collections.
+ *
+ * Sorted input ({@link NavigableSet}, {@link NavigableMap} or a list sorted by
+ * the compared key) is cut with a binary search and returned as a view, any
+ * other input is filtered element by element. {@link #filter} runs in parallel
+ * once the input is large enough to pay off, streams handed back to the caller
+ * stay sequential.
+ */
+public final class RangeCollections {
+
+  /**
+   * below this size a parallel stream costs more than it saves
+   */
+  static final int PARALLEL_THRESHOLD = 8192;
+
+  private RangeCollections() {
+  }
+
+  /**
+   * Returns a view of the elements of {@code set} contained in {@code range}.
+   * Sets ordered by something other than the natural order are filtered into a copy instead.
+   */
+  public static <T extends Comparable<? super T>> NavigableSet<T> subSet(NavigableSet<T> set, Range<T> range) {
+    if (!isNaturalOrder(set.comparator())) {
+      return set.stream()
+              .filter(range::contains)
+              .collect(Collectors.toCollection(() -> new TreeSet<>(set.comparator())));
+    }
+    if (range.hasLowerBound() && range.hasUpperBound()) {
+      return set.subSet(range.lowerbound(), range.isLowerBoundClosed(),
+              range.upperbound(), range.isUpperBoundClosed());
+    }
+    if (range.hasLowerBound()) {
+      return set.tailSet(range.lowerbound(), range.isLowerBoundClosed());
+    }
+    if (range.hasUpperBound()) {
+      return set.headSet(range.upperbound(), range.isUpperBoundClosed());
+    }
+    return set;
+  }
+
+  /**
+   * Returns a view of the entries of {@code map} whose keys are contained in {@code range}.
+   * Maps ordered by something other than the natural order are filtered into a copy instead.
+   */
+  public static <K extends Comparable<? super K>, V> NavigableMap<K, V> subMap(NavigableMap<K, V> map, Range<K> range) {
+    if (!isNaturalOrder(map.comparator())) {
+      NavigableMap<K, V> result = new TreeMap<>(map.comparator());
+      map.forEach((key, value) -> {
+        if (range.contains(key)) {
+          result.put(key, value);
+        }
+      });
+      return result;
+    }
+    if (range.hasLowerBound() && range.hasUpperBound()) {
+      return map.subMap(range.lowerbound(), range.isLowerBoundClosed(),
+              range.upperbound(), range.isUpperBoundClosed());
+    }
+    if (range.hasLowerBound()) {
+      return map.tailMap(range.lowerbound(), range.isLowerBoundClosed());
+    }
+    if (range.hasUpperBound()) {
+      return map.headMap(range.upperbound(), range.isUpperBoundClosed());
+    }
+    return map;
+  }
+
+  /**
+   * Returns a view of the elements of the ascending {@code sorted} list contained in {@code range}.
+   */
+  public static <T extends Comparable<? super T>> List<T> subList(List<T> sorted, Range<T> range) {
+    return subList(sorted, Function.identity(), range);
+  }
+
+  /**
+   * Returns a view of the elements whose {@code key} is contained in {@code range}.
+   * The list must be sorted ascending by that key, lists without random access are filtered instead.
+   *
+   * @param sorted
+   * @param key
+   * @param range
+   * @return
+   * @param <E>
+   * @param <T>
+   */
+  public static <E, T extends Comparable<? super T>> List<E> subList(List<E> sorted,
+                                                                     Function<? super E, ? extends T> key,
+                                                                     Range<T> range) {
+    if (!(sorted instanceof RandomAccess)) {
+      return filter(sorted, key, range);
+    }
+    int from = range.hasLowerBound()
+            ? firstIndex(sorted, key, range.lowerbound(), range.isLowerBoundClosed())
+            : 0;
+    int to = range.hasUpperBound()
+            ? firstIndex(sorted, key, range.upperbound(), !range.isUpperBoundClosed())
+            : sorted.size();
+    return to <= from ? Collections.emptyList() : sorted.subList(from, to);
+  }
+
+  /**
+   * Returns the elements of {@code source} whose {@code key} is contained in {@code range},
+   * keeping the iteration order of {@code source}.
+   */
+  public static <E, T extends Comparable<? super T>> List<E> filter(Collection<E> source,
+                                                                    Function<? super E, ? extends T> key,
+                                                                    Range<T> range) {
+    Stream<E> stream = source.size() >= PARALLEL_THRESHOLD ? source.parallelStream() : source.stream();
+    return stream.filter(element -> range.contains(key.apply(element)))
+            .collect(Collectors.toList());
+  }
+
+  /**
+   * Streams the elements of {@code source} contained in {@code range}, using
+   * {@link #subSet} when {@code source} is a {@link NavigableSet}. The returned
+   * stream is sequential, call {@code parallel()} on it to opt in.
+   */
+  public static <T extends Comparable<? super T>> Stream<T> stream(Collection<T> source, Range<T> range) {
+    if (source instanceof NavigableSet) {
+      return subSet((NavigableSet<T>) source, range).stream();
+    }
+    return source.stream().filter(range::contains);
+  }
+
+  /**
+   * Collects the elements whose {@code key} is contained in {@code range}, for
+   * pipelines where the source order is unknown.
+   */
+  public static <E, T extends Comparable<? super T>> Collector<E, ?, List<E>> toContained(
+          Function<? super E, ? extends T> key, Range<T> range) {
+    return Collectors.filtering(element -> range.contains(key.apply(element)), Collectors.toList());
+  }
+
+  /**
+   * Binary search for the first index whose key is not below {@code bound},
+   * or not below-or-equal when {@code inclusive} is false.
+   */
+  private static <E, T extends Comparable<? super T>> int firstIndex(List<E> sorted,
+                                                                     Function<? super E, ? extends T> key,
+                                                                     T bound,
+                                                                     boolean inclusive) {
+    int low = 0;
+    int high = sorted.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      int cmp = key.apply(sorted.get(mid)).compareTo(bound);
+      if (cmp < 0 || (cmp == 0 && !inclusive)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static boolean isNaturalOrder(Comparator<?> comparator) {
+    return comparator == null || comparator.equals(Comparator.naturalOrder());
+  }
+}
@@ -3,24 +3,36 @@ package io.mesoneer.interview_challenges;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 public class RangeController {
 
     private final RangeService rangeService;
+    private final RangeResultCache rangeResultCache;
 
-    public RangeController(RangeService rangeService) {
+    public RangeController(RangeService rangeService, RangeResultCache rangeResultCache) {
         this.rangeService = rangeService;
+        this.rangeResultCache = rangeResultCache;
     }
 
     /**
      * using post request to send the range in string format in body
-     * to avoid special characters in get request
+     * to avoid special characters in get request,
+     * identical requests are answered from {@link RangeResultCache},
+     * post responses are not revalidated so HTTP caching is left to the get variant
      *
      * @param request
      * @return
@@ -33,6 +45,81 @@ public class RangeController {
     })
     @PostMapping("/api/range")
     public ResponseEntity<Boolean> inRange(@RequestBody RangeRequest request){
-        return new ResponseEntity<Boolean>(rangeService.inRange(request), HttpStatus.OK);
+        return new ResponseEntity<Boolean>(rangeResultCache.get(request, rangeService::inRange), HttpStatus.OK);
+    }
+
+    /**
+     * same check as the post request with url encoded parameters,
+     * so that clients and proxies can cache the result and revalidate it
+     * with If-None-Match, revalidation is answered from {@link RangeResultCache}
+     *
+     * @param range
+     * @param value
+     * @param classDefinition
+     * @param webRequest
+     * @return
+     */
+    @Operation(summary = "check if an input is in range, cacheable with ETag")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "successfully get a boolean value"),
+            @ApiResponse(responseCode = "304", description = "the ETag in If-None-Match is still valid for this request"),
+            @ApiResponse(responseCode = "500", description = "invalid input bound in request if message is: INVALID_BOUND_EXCEPTION"),
+            @ApiResponse(responseCode = "500", description = "invalid class type in request if message is: CLASS_NOT_FOUND_EXCEPTION")
+    })
+    @GetMapping("/api/range")
+    public ResponseEntity<Boolean> inRangeQuery(@RequestParam String range,
+                                                @RequestParam String value,
+                                                @RequestParam String classDefinition,
+                                                WebRequest webRequest){
+        RangeRequest request = new RangeRequest(range, value, classDefinition);
+        Boolean result = rangeResultCache.get(request, rangeService::inRange);
+        // only tag valid requests, an invalid one has thrown above without an ETag
+        if (webRequest.checkNotModified(RangeResultCache.etag(request))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(rangeResultCache.ttl()).cachePublic())
+                .body(result);
+    }
+
+    /**
+     * check a value against a named range of the uploaded rule set
+     *
+     * @param name
+     * @param request
+     * @return
+     */
+    @Operation(summary = "check if an input is in a named range of the current rule set")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "successfully get a boolean value"),
+            @ApiResponse(responseCode = "500", description = "unknown rule name if message is: RULE_NOT_FOUND_EXCEPTION")
+    })
+    @PostMapping("/api/range/rules/{name}")
+    public ResponseEntity<Boolean> inRule(@PathVariable String name, @RequestBody RangeRuleRequest request){
+        return new ResponseEntity<Boolean>(rangeService.inRule(name, request.getValue()), HttpStatus.OK);
+    }
+
+    /**
+     * replace the whole rule set in one upload, readers switch to the new
+     * version atomically
+     *
+     * @param rules
+     * @return
+     */
+    @Operation(summary = "upload a new rule set of named ranges")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "rule set published, returns the rule set metrics"),
+            @ApiResponse(responseCode = "500", description = "invalid rule in upload, the current rule set is kept"),
+            @ApiResponse(responseCode = "500", description = "missing name or range, or a name used twice if message is: INVALID_RULE_EXCEPTION")
+    })
+    @PutMapping("/api/range/rules")
+    public ResponseEntity<RangeRuleSetMetrics> publishRules(@RequestBody List<RangeRule> rules){
+        return new ResponseEntity<RangeRuleSetMetrics>(rangeService.publishRules(rules), HttpStatus.OK);
+    }
+
+    @Operation(summary = "get version, size and swap latency of the current rule set")
+    @GetMapping("/api/range/rules/metrics")
+    public ResponseEntity<RangeRuleSetMetrics> ruleSetMetrics(){
+        return new ResponseEntity<RangeRuleSetMetrics>(rangeService.ruleSetMetrics(), HttpStatus.OK);
     }
 }
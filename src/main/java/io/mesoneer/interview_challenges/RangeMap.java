@@ -0,0 +1,203 @@
+package io.mesoneer.interview_challenges;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Maps non-overlapping {@link Range} keys to values, e.g. tariffs by weight.
+ *
+ * Entries are kept in a {@link TreeMap} ordered by where each range starts, so
+ * {@link #get} is a single floor lookup. {@link #put} overwrites the part of
+ * any existing range that overlaps the new one, splitting it when needed.
+ * Not thread-safe.
+ */
+public class RangeMap<K extends Comparable<? super K>, V> {
+
+  private final NavigableMap<Cut<K>, Entry<K, V>> entries = new TreeMap<>();
+
+  /**
+   * Associate every point of {@code range} with {@code value}. Empty ranges such as
+   * {@code (5, 5)} are ignored.
+   */
+  public void put(Range<K> range, V value) {
+    Cut<K> lower = Cut.lower(range);
+    Cut<K> upper = Cut.upper(range);
+    if (lower.compareTo(upper) >= 0) {
+      return;
+    }
+
+    Map.Entry<Cut<K>, Entry<K, V>> before = entries.lowerEntry(lower);
+    if (before != null && before.getValue().upper.compareTo(lower) > 0) {
+      Entry<K, V> overlapped = before.getValue();
+      if (overlapped.upper.compareTo(upper) > 0) {
+        putEntry(upper, overlapped.upper, overlapped.value);
+      }
+      putEntry(overlapped.lower, lower, overlapped.value);
+    }
+
+    Map.Entry<Cut<K>, Entry<K, V>> last = entries.lowerEntry(upper);
+    if (last != null && last.getValue().upper.compareTo(upper) > 0) {
+      putEntry(upper, last.getValue().upper, last.getValue().value);
+    }
+
+    entries.subMap(lower, true, upper, false).clear();
+    putEntry(lower, upper, value);
+  }
+
+  /**
+   * Returns the value of the range containing {@code point}, or {@code null}.
+   */
+  public V get(K point) {
+    Entry<K, V> entry = getEntry(point);
+    return entry == null ? null : entry.value;
+  }
+
+  /**
+   * Returns the range containing {@code point}, or {@code null}.
+   */
+  public Range<K> getRange(K point) {
+    Entry<K, V> entry = getEntry(point);
+    return entry == null ? null : entry.range;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Returns the ranges in ascending order.
+   */
+  public List<Range<K>> ranges() {
+    List<Range<K>> ranges = new ArrayList<>(entries.size());
+    for (Entry<K, V> entry : entries.values()) {
+      ranges.add(entry.range);
+    }
+    return ranges;
+  }
+
+  /**
+   * Visit every range and its value in ascending order.
+   */
+  public void forEach(BiConsumer<? super Range<K>, ? super V> action) {
+    for (Entry<K, V> entry : entries.values()) {
+      action.accept(entry.range, entry.value);
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("{");
+    forEach((range, value) -> {
+      if (result.length() > 1) {
+        result.append(", ");
+      }
+      result.append(range).append('=').append(value);
+    });
+    return result.append('}').toString();
+  }
+
+  private Entry<K, V> getEntry(K point) {
+    Cut<K> cut = Cut.below(point);
+    Map.Entry<Cut<K>, Entry<K, V>> floor = entries.floorEntry(cut);
+    if (floor == null || floor.getValue().upper.compareTo(cut) <= 0) {
+      return null;
+    }
+    return floor.getValue();
+  }
+
+  private void putEntry(Cut<K> lower, Cut<K> upper, V value) {
+    entries.put(lower, new Entry<>(lower, upper, value));
+  }
+
+  private static final class Entry<K extends Comparable<? super K>, V> {
+    private final Cut<K> lower;
+    private final Cut<K> upper;
+    private final Range<K> range;
+    private final V value;
+
+    private Entry(Cut<K> lower, Cut<K> upper, V value) {
+      this.lower = lower;
+      this.upper = upper;
+      this.range = Cut.toRange(lower, upper);
+      this.value = value;
+    }
+  }
+
+  /**
+   * A position between points of {@code K}: just below a value, just above it,
+   * or beyond every value. A range is the half-open interval
+   * {@code [lower cut, upper cut)}, which turns all {@link EnumType} kinds into
+   * one comparison.
+   */
+  private static final class Cut<K extends Comparable<? super K>> implements Comparable<Cut<K>> {
+    private static final int BELOW_ALL = -1;
+    private static final int BELOW_VALUE = 0;
+    private static final int ABOVE_VALUE = 1;
+    private static final int ABOVE_ALL = 2;
+
+    private final K value;
+    private final int kind;
+
+    private Cut(K value, int kind) {
+      this.value = value;
+      this.kind = kind;
+    }
+
+    static <K extends Comparable<? super K>> Cut<K> below(K value) {
+      return new Cut<>(value, BELOW_VALUE);
+    }
+
+    static <K extends Comparable<? super K>> Cut<K> lower(Range<K> range) {
+      if (!range.hasLowerBound()) {
+        return new Cut<>(null, BELOW_ALL);
+      }
+      return new Cut<>(range.lowerbound(), range.isLowerBoundClosed() ? BELOW_VALUE : ABOVE_VALUE);
+    }
+
+    static <K extends Comparable<? super K>> Cut<K> upper(Range<K> range) {
+      if (!range.hasUpperBound()) {
+        return new Cut<>(null, ABOVE_ALL);
+      }
+      return new Cut<>(range.upperbound(), range.isUpperBoundClosed() ? ABOVE_VALUE : BELOW_VALUE);
+    }
+
+    static <K extends Comparable<? super K>> Range<K> toRange(Cut<K> lower, Cut<K> upper) {
+      boolean lowerClosed = lower.kind == BELOW_VALUE;
+      boolean upperClosed = upper.kind == ABOVE_VALUE;
+      if (lower.kind == BELOW_ALL) {
+        if (upper.kind == ABOVE_ALL) {
+          return Range.all();
+        }
+        return upperClosed ? Range.atMost(upper.value) : Range.lessThan(upper.value);
+      }
+      if (upper.kind == ABOVE_ALL) {
+        return lowerClosed ? Range.atLeast(lower.value) : Range.greaterThan(lower.value);
+      }
+      if (lowerClosed) {
+        return upperClosed ? Range.closed(lower.value, upper.value) : Range.closedOpen(lower.value, upper.value);
+      }
+      return upperClosed ? Range.openClosed(lower.value, upper.value) : Range.open(lower.value, upper.value);
+    }
+
+    @Override
+    public int compareTo(Cut<K> other) {
+      if (kind == BELOW_ALL || kind == ABOVE_ALL || other.kind == BELOW_ALL || other.kind == ABOVE_ALL) {
+        return Integer.compare(kind, other.kind);
+      }
+      int cmp = value.compareTo(other.value);
+      return cmp != 0 ? cmp : Integer.compare(kind, other.kind);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package io.mesoneer.interview_challenges;
 
+import java.util.Objects;
+
 public class RangeRequest {
     private String range;
     private String value;
@@ -34,4 +36,19 @@ public class RangeRequest {
     public void setClassDefinition(String classDefinition) {
         this.classDefinition = classDefinition;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RangeRequest that = (RangeRequest) o;
+        return Objects.equals(range, that.range)
+                && Objects.equals(value, that.value)
+                && Objects.equals(classDefinition, that.classDefinition);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(range, value, classDefinition);
+    }
 }
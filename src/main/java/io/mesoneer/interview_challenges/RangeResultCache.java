@@ -0,0 +1,163 @@
+package io.mesoneer.interview_challenges;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Caches {@code /api/range} results by the full {@link RangeRequest}.
+ *
+ * Concurrent identical requests share one evaluation: the first caller
+ * computes the result, the others wait on the same future. Entries expire
+ * after {@code range.cache.ttl-seconds} and the oldest entries are evicted
+ * beyond {@code range.cache.max-size}. Failed evaluations are not cached.
+ */
+@Component
+public class RangeResultCache {
+    private final ConcurrentHashMap<RangeRequest, CacheEntry> entries = new ConcurrentHashMap<>();
+    /**
+     * insertion order of loaded entries, with a fixed ttl this is also expiry order
+     */
+    private final Queue<CacheEntry> order = new ConcurrentLinkedQueue<>();
+    /**
+     * size of {@code order}, {@code ConcurrentLinkedQueue.size()} walks the whole queue
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+    private final long ttlNanos;
+    private final int maxSize;
+
+    public RangeResultCache(@Value("${range.cache.ttl-seconds:60}") long ttlSeconds,
+                            @Value("${range.cache.max-size:10000}") int maxSize) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxSize = maxSize;
+    }
+
+    public Boolean get(RangeRequest request, Function<RangeRequest, Boolean> loader) {
+        long now = System.nanoTime();
+        CacheEntry entry;
+        while (true) {
+            entry = entries.get(request);
+            if (entry != null && !entry.isExpired(now)) {
+                break;
+            }
+            CacheEntry created = new CacheEntry(copyOf(request), now + ttlNanos);
+            boolean installed = entry == null
+                    ? entries.putIfAbsent(created.key, created) == null
+                    : entries.replace(created.key, entry, created);
+            if (installed) {
+                if (load(created, loader)) {
+                    order.add(created);
+                    queued.incrementAndGet();
+                }
+                evict(now);
+                entry = created;
+                break;
+            }
+        }
+        try {
+            return entry.result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of entries tracked for eviction, at most {@code range.cache.max-size}.
+     */
+    int queued() {
+        return queued.get();
+    }
+
+    /**
+     * How long a client may reuse a result, used for the {@code Cache-Control} header.
+     */
+    public Duration ttl() {
+        return Duration.ofNanos(ttlNanos);
+    }
+
+    /**
+     * Strong validator for the result of {@code request}. The result of a request only
+     * depends on its fields, so the tag can be computed without evaluating it.
+     */
+    public static String etag(RangeRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((request.getRange() + '\n'
+                    + request.getValue() + '\n'
+                    + request.getClassDefinition()).getBytes(StandardCharsets.UTF_8));
+            StringBuilder tag = new StringBuilder("\"");
+            for (int i = 0; i < 16; i++) {
+                tag.append(String.format("%02x", hash[i]));
+            }
+            return tag.append('"').toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Returns {@code false} if the loader failed, the entry is then already removed.
+     */
+    private boolean load(CacheEntry entry, Function<RangeRequest, Boolean> loader) {
+        try {
+            entry.result.complete(loader.apply(entry.key));
+            return true;
+        } catch (Throwable ex) {
+            // complete on any failure, callers coalesced on this entry block in join()
+            entries.remove(entry.key, entry);
+            entry.result.completeExceptionally(ex);
+            return false;
+        }
+    }
+
+    private void evict(long now) {
+        CacheEntry oldest;
+        while ((oldest = order.peek()) != null
+                && (oldest.isExpired(now) || queued.get() > maxSize)) {
+            if (order.remove(oldest)) {
+                queued.decrementAndGet();
+                entries.remove(oldest.key, oldest);
+            }
+        }
+    }
+
+    private static RangeRequest copyOf(RangeRequest request) {
+        return new RangeRequest(request.getRange(), request.getValue(), request.getClassDefinition());
+    }
+
+    private static final class CacheEntry {
+        private final RangeRequest key;
+        private final long expiresAt;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private CacheEntry(RangeRequest key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.mesoneer.interview_challenges;
+
+public class RangeRule {
+    private String name;
+    private String range;
+    private String classDefinition;
+
+    public RangeRule(String name, String range, String classDefinition) {
+        this.name = name;
+        this.range = range;
+        this.classDefinition = classDefinition;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getRange() {
+        return range;
+    }
+
+    public void setRange(String range) {
+        this.range = range;
+    }
+
+    public String getClassDefinition() {
+        return classDefinition;
+    }
+
+    public void setClassDefinition(String classDefinition) {
+        this.classDefinition = classDefinition;
+    }
+}
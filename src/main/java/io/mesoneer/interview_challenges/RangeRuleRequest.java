@@ -0,0 +1,20 @@
+package io.mesoneer.interview_challenges;
+
+public class RangeRuleRequest {
+    private String value;
+
+    public RangeRuleRequest() {
+    }
+
+    public RangeRuleRequest(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+}
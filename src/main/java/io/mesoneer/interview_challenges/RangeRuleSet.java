@@ -0,0 +1,92 @@
+package io.mesoneer.interview_challenges;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the named ranges served by {@link RangeService}.
+ * A new snapshot is built for every upload and published as a whole,
+ * so a reader always sees one consistent version.
+ */
+public final class RangeRuleSet {
+    /**
+     * rough per-entry footprint: map node, entry object, Range and its bounds
+     */
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+    private static final long CHAR_BYTES = 2;
+
+    private final long version;
+    private final Map<String, Entry> entries;
+    private final long estimatedBytes;
+
+    RangeRuleSet(long version, Map<String, Entry> entries) {
+        this.version = version;
+        this.entries = Collections.unmodifiableMap(new HashMap<>(entries));
+        this.estimatedBytes = estimateBytes(this.entries);
+    }
+
+    private RangeRuleSet(long version, RangeRuleSet rules) {
+        this.version = version;
+        this.entries = rules.entries;
+        this.estimatedBytes = rules.estimatedBytes;
+    }
+
+    public static RangeRuleSet empty() {
+        return new RangeRuleSet(0, Collections.emptyMap());
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * The same rules under another version, shares the entries without copying.
+     */
+    RangeRuleSet withVersion(long version) {
+        return new RangeRuleSet(version, this);
+    }
+
+    public Entry get(String name) {
+        return entries.get(name);
+    }
+
+    private static long estimateBytes(Map<String, Entry> entries) {
+        long bytes = 0;
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            bytes += ENTRY_OVERHEAD_BYTES
+                    + CHAR_BYTES * entry.getKey().length()
+                    + CHAR_BYTES * entry.getValue().range().toString().length();
+        }
+        return bytes;
+    }
+
+    /**
+     * A parsed range together with the class its values are parsed with.
+     */
+    public static final class Entry {
+        private final Range<?> range;
+        private final Class<? extends Comparable<?>> clazz;
+
+        Entry(Range<?> range, Class<? extends Comparable<?>> clazz) {
+            this.range = range;
+            this.clazz = clazz;
+        }
+
+        public Range<?> range() {
+            return range;
+        }
+
+        public Class<? extends Comparable<?>> clazz() {
+            return clazz;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.mesoneer.interview_challenges;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link RangeRuleSet}. Readers only do a volatile read of
+ * the reference, writers build a complete snapshot first and swap it in.
+ */
+@Component
+public class RangeRuleSetHolder {
+    private final AtomicReference<RangeRuleSet> current = new AtomicReference<>(RangeRuleSet.empty());
+    private final AtomicLong swapCount = new AtomicLong();
+    private final AtomicLong lastSwapNanos = new AtomicLong();
+    private final AtomicLong maxSwapNanos = new AtomicLong();
+
+    public RangeRuleSet current() {
+        return current.get();
+    }
+
+    /**
+     * Publish the given entries as the next version, concurrent uploads
+     * retry until their snapshot is installed on top of the latest one.
+     * The snapshot is built once before the swap, the recorded swap latency
+     * only covers the compare-and-set retries.
+     *
+     * @param entries
+     * @return the published snapshot
+     */
+    public RangeRuleSet publish(Map<String, RangeRuleSet.Entry> entries) {
+        RangeRuleSet rules = new RangeRuleSet(0, entries);
+        long start = System.nanoTime();
+        RangeRuleSet previous;
+        RangeRuleSet next;
+        do {
+            previous = current.get();
+            next = rules.withVersion(previous.version() + 1);
+        } while (!current.compareAndSet(previous, next));
+        recordSwap(System.nanoTime() - start);
+        return next;
+    }
+
+    public RangeRuleSetMetrics metrics() {
+        return metrics(current.get());
+    }
+
+    /**
+     * Metrics of the given snapshot, e.g. the one returned by {@link #publish},
+     * which may already have been replaced by a concurrent upload.
+     *
+     * @param snapshot
+     * @return
+     */
+    public RangeRuleSetMetrics metrics(RangeRuleSet snapshot) {
+        return new RangeRuleSetMetrics(snapshot.version(),
+                snapshot.size(),
+                snapshot.estimatedBytes(),
+                swapCount.get(),
+                lastSwapNanos.get(),
+                maxSwapNanos.get());
+    }
+
+    private void recordSwap(long nanos) {
+        swapCount.incrementAndGet();
+        lastSwapNanos.set(nanos);
+        maxSwapNanos.accumulateAndGet(nanos, Math::max);
+    }
+}
@@ -0,0 +1,44 @@
+package io.mesoneer.interview_challenges;
+
+public class RangeRuleSetMetrics {
+    private final long version;
+    private final int ruleCount;
+    private final long snapshotBytes;
+    private final long swapCount;
+    private final long lastSwapNanos;
+    private final long maxSwapNanos;
+
+    public RangeRuleSetMetrics(long version, int ruleCount, long snapshotBytes,
+                               long swapCount, long lastSwapNanos, long maxSwapNanos) {
+        this.version = version;
+        this.ruleCount = ruleCount;
+        this.snapshotBytes = snapshotBytes;
+        this.swapCount = swapCount;
+        this.lastSwapNanos = lastSwapNanos;
+        this.maxSwapNanos = maxSwapNanos;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public long getSnapshotBytes() {
+        return snapshotBytes;
+    }
+
+    public long getSwapCount() {
+        return swapCount;
+    }
+
+    public long getLastSwapNanos() {
+        return lastSwapNanos;
+    }
+
+    public long getMaxSwapNanos() {
+        return maxSwapNanos;
+    }
+}
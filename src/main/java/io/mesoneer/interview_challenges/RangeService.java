@@ -4,11 +4,21 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public class RangeService {
 
+    private final RangeRuleSetHolder ruleSetHolder;
+
+    public RangeService(RangeRuleSetHolder ruleSetHolder) {
+        this.ruleSetHolder = ruleSetHolder;
+    }
+
     /**
      * dynamically add classes implementing Comparable interface
      *
@@ -16,6 +26,9 @@ public class RangeService {
      * @return
      */
     private Class<? extends Comparable<?>> getClassFromString(String className){
+        if (className == null) {
+            throw new IllegalArgumentException(EnumException.CLASS_NOT_FOUND_EXCEPTION.name());
+        }
         switch (className.toLowerCase()){
             case "integer.class":
                 return Integer.class;
@@ -38,6 +51,9 @@ public class RangeService {
             case "localdate.class":
                 return LocalDate.class;
 
+            case "instant.class":
+                return Instant.class;
+
             default: throw new IllegalArgumentException(EnumException.CLASS_NOT_FOUND_EXCEPTION.name());
         }
     }
@@ -51,4 +67,47 @@ public class RangeService {
         T parsedValue = Range.parseValue(requestValue, clazz);
         return range.contains(parsedValue);
     }
+
+    /**
+     * check a value against a named range of the current rule set,
+     * reads the published snapshot without locking
+     *
+     * @param ruleName
+     * @param value
+     * @return
+     */
+    public <T extends Comparable<? super T>> Boolean inRule(String ruleName, String value) {
+        RangeRuleSet.Entry entry = ruleSetHolder.current().get(ruleName);
+        if (entry == null) {
+            throw new IllegalArgumentException(EnumException.RULE_NOT_FOUND_EXCEPTION.name());
+        }
+        Range<T> range = (Range<T>) entry.range();
+        T parsedValue = Range.parseValue(value, entry.clazz());
+        return range.contains(parsedValue);
+    }
+
+    /**
+     * parse all rules up front and publish them as the next rule set version,
+     * an invalid rule rejects the whole upload and keeps the current version,
+     * a rule without name or range and a name used twice are invalid
+     *
+     * @param rules
+     * @return
+     */
+    public RangeRuleSetMetrics publishRules(List<RangeRule> rules) {
+        Map<String, RangeRuleSet.Entry> entries = new HashMap<>();
+        for (RangeRule rule : rules) {
+            if (rule == null || rule.getName() == null || rule.getName().isEmpty()
+                    || rule.getRange() == null || entries.containsKey(rule.getName())) {
+                throw new IllegalArgumentException(EnumException.INVALID_RULE_EXCEPTION.name());
+            }
+            Class<? extends Comparable<?>> clazz = getClassFromString(rule.getClassDefinition());
+            entries.put(rule.getName(), new RangeRuleSet.Entry(Range.parse(rule.getRange(), clazz), clazz));
+        }
+        return ruleSetHolder.metrics(ruleSetHolder.publish(entries));
+    }
+
+    public RangeRuleSetMetrics ruleSetMetrics() {
+        return ruleSetHolder.metrics();
+    }
 }
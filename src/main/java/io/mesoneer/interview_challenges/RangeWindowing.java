@@ -0,0 +1,193 @@
+package io.mesoneer.interview_challenges;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Assigns timestamped events to a fixed set of window ranges and emits one
+ * aggregate per window as soon as the window can no longer receive events.
+ *
+ * Windows are swept in order of their lower bound: a window is opened when the
+ * first event reaches its lower bound and closed when an event (or
+ * {@link #advanceTo}) passes its upper bound, so only the currently open
+ * windows hold an accumulator. Windows without upper bound are emitted by
+ * {@link #finish()}.
+ *
+ * Events must arrive in non-decreasing timestamp order, older events are
+ * counted in {@link #lateEvents()} and dropped. Not thread-safe.
+ *
+ * @param <T> timestamp type, e.g. {@code LocalDate} or {@code Instant}
+ * @param <E> event type
+ * @param <A> accumulation type of the collector
+ * @param <R> aggregate emitted per window
+ */
+public class RangeWindowing<T extends Comparable<? super T>, E, A, R> implements Consumer<E> {
+
+  private final List<Range<T>> pending;
+  private final PriorityQueue<OpenWindow<T, A>> open;
+  private final Function<? super E, ? extends T> timestamp;
+  private final Collector<? super E, A, R> collector;
+  private final Consumer<? super Window<T, R>> sink;
+
+  private int nextPending;
+  private T watermark;
+  private long lateEvents;
+
+  public RangeWindowing(Collection<Range<T>> windows,
+                        Function<? super E, ? extends T> timestamp,
+                        Collector<? super E, A, R> collector,
+                        Consumer<? super Window<T, R>> sink) {
+    this.pending = new ArrayList<>(windows);
+    this.pending.sort(RangeWindowing::compareLowerBounds);
+    this.open = new PriorityQueue<>((left, right) -> compareUpperBounds(left.range, right.range));
+    this.timestamp = timestamp;
+    this.collector = collector;
+    this.sink = sink;
+  }
+
+  @Override
+  public void accept(E event) {
+    T time = timestamp.apply(event);
+    if (watermark != null && time.compareTo(watermark) < 0) {
+      lateEvents++;
+      return;
+    }
+    advanceTo(time);
+    for (OpenWindow<T, A> window : open) {
+      collector.accumulator().accept(window.container, event);
+      window.count++;
+    }
+  }
+
+  /**
+   * Move time forward without an event: closes every window whose upper bound
+   * lies before {@code time} and opens every window whose lower bound is reached.
+   * A time before the current watermark is ignored, time never moves back.
+   */
+  public void advanceTo(T time) {
+    if (watermark != null && time.compareTo(watermark) < 0) {
+      return;
+    }
+    watermark = time;
+    closePassed(time);
+    while (nextPending < pending.size() && lowerBoundReached(pending.get(nextPending), time)) {
+      open.add(new OpenWindow<>(pending.get(nextPending++), collector.supplier().get()));
+    }
+    closePassed(time);
+  }
+
+  /**
+   * Emit every remaining window, including the ones that never received an event.
+   */
+  public void finish() {
+    while (!open.isEmpty()) {
+      emit(open.poll());
+    }
+    while (nextPending < pending.size()) {
+      emit(new OpenWindow<>(pending.get(nextPending++), collector.supplier().get()));
+    }
+  }
+
+  public long lateEvents() {
+    return lateEvents;
+  }
+
+  /**
+   * Number of windows currently holding an accumulator.
+   */
+  public int openWindows() {
+    return open.size();
+  }
+
+  private void closePassed(T time) {
+    while (!open.isEmpty() && upperBoundPassed(open.peek().range, time)) {
+      emit(open.poll());
+    }
+  }
+
+  private void emit(OpenWindow<T, A> window) {
+    sink.accept(new Window<>(window.range, collector.finisher().apply(window.container), window.count));
+  }
+
+  private static <T extends Comparable<? super T>> boolean lowerBoundReached(Range<T> range, T time) {
+    if (!range.hasLowerBound()) {
+      return true;
+    }
+    int cmp = time.compareTo(range.lowerbound());
+    return range.isLowerBoundClosed() ? cmp >= 0 : cmp > 0;
+  }
+
+  private static <T extends Comparable<? super T>> boolean upperBoundPassed(Range<T> range, T time) {
+    if (!range.hasUpperBound()) {
+      return false;
+    }
+    int cmp = time.compareTo(range.upperbound());
+    return range.isUpperBoundClosed() ? cmp > 0 : cmp >= 0;
+  }
+
+  private static <T extends Comparable<? super T>> int compareLowerBounds(Range<T> left, Range<T> right) {
+    if (!left.hasLowerBound() || !right.hasLowerBound()) {
+      return Boolean.compare(left.hasLowerBound(), right.hasLowerBound());
+    }
+    int cmp = left.lowerbound().compareTo(right.lowerbound());
+    // on the same value a closed lower bound is reached before an open one
+    return cmp != 0 ? cmp : Boolean.compare(!left.isLowerBoundClosed(), !right.isLowerBoundClosed());
+  }
+
+  private static <T extends Comparable<? super T>> int compareUpperBounds(Range<T> left, Range<T> right) {
+    if (!left.hasUpperBound() || !right.hasUpperBound()) {
+      return Boolean.compare(!left.hasUpperBound(), !right.hasUpperBound());
+    }
+    int cmp = left.upperbound().compareTo(right.upperbound());
+    // on the same value an open upper bound is passed before a closed one
+    return cmp != 0 ? cmp : Boolean.compare(left.isUpperBoundClosed(), right.isUpperBoundClosed());
+  }
+
+  private static final class OpenWindow<T extends Comparable<? super T>, A> {
+    private final Range<T> range;
+    private final A container;
+    private long count;
+
+    private OpenWindow(Range<T> range, A container) {
+      this.range = range;
+      this.container = container;
+    }
+  }
+
+  /**
+   * Aggregate of one closed window.
+   */
+  public static final class Window<T extends Comparable<? super T>, R> {
+    private final Range<T> range;
+    private final R result;
+    private final long count;
+
+    Window(Range<T> range, R result, long count) {
+      this.range = range;
+      this.result = result;
+      this.count = count;
+    }
+
+    public Range<T> range() {
+      return range;
+    }
+
+    public R result() {
+      return result;
+    }
+
+    public long count() {
+      return count;
+    }
+
+    @Override
+    public String toString() {
+      return range + "=" + result;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package io.mesoneer.interview_challenges;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class KeyRangeTest {
+
+  private static final class Order {
+    private final String customer;
+    private final long price;
+
+    private Order(String customer, long price) {
+      this.customer = customer;
+      this.price = price;
+    }
+
+    private String customer() {
+      return customer;
+    }
+
+    private long price() {
+      return price;
+    }
+  }
+
+  @Test
+  public void comparator_range_should_use_custom_order() {
+    ComparatorRange<String> caseInsensitive = ComparatorRange.closed("apple", "melon", String.CASE_INSENSITIVE_ORDER);
+
+    assertThat(caseInsensitive.contains("APPLE")).isEqualTo(true);
+    assertThat(caseInsensitive.contains("Banana")).isEqualTo(true);
+    assertThat(caseInsensitive.contains("Zucchini")).isEqualTo(false);
+    assertThat(caseInsensitive.toString()).isEqualTo("[apple, melon]");
+  }
+
+  @Test
+  public void comparator_range_should_support_non_comparable_types() {
+    Comparator<Order> byPrice = Comparator.comparingLong(Order::price);
+    ComparatorRange<Order> cheap = ComparatorRange.lessThan(new Order("bound", 100), byPrice);
+
+    assertThat(cheap.contains(new Order("a", 99))).isEqualTo(true);
+    assertThat(cheap.contains(new Order("b", 100))).isEqualTo(false);
+  }
+
+  @Test
+  public void comparator_range_should_expose_bounds_like_range() {
+    ComparatorRange<Integer> range = ComparatorRange.openClosed(1, 5, Comparator.<Integer>naturalOrder());
+    ComparatorRange<Integer> unbounded = ComparatorRange.atLeast(1, Comparator.<Integer>naturalOrder());
+
+    assertThat(range.hasLowerBound()).isEqualTo(true);
+    assertThat(range.isLowerBoundClosed()).isEqualTo(false);
+    assertThat(range.hasUpperBound()).isEqualTo(true);
+    assertThat(range.isUpperBoundClosed()).isEqualTo(true);
+    assertThat(unbounded.hasUpperBound()).isEqualTo(false);
+    assertThat(unbounded.isLowerBoundClosed()).isEqualTo(true);
+  }
+
+  @Test
+  public void comparator_range_should_reject_invalid_bounds() {
+    assertThatThrownBy(() -> ComparatorRange.closed(5, 1, Comparator.<Integer>naturalOrder()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(EnumException.INVALID_BOUND_EXCEPTION.name());
+  }
+
+  @Test
+  public void key_range_should_compare_extracted_keys() {
+    KeyRange<Order, String> customers = KeyRange.of(Range.closedOpen("a", "m"), Order::customer);
+
+    assertThat(customers.contains(new Order("alice", 1))).isEqualTo(true);
+    assertThat(customers.contains(new Order("mallory", 1))).isEqualTo(false);
+  }
+
+  @Test
+  public void long_key_range_should_honor_open_and_closed_bounds() {
+    LongKeyRange<Order> closedOpen = LongKeyRange.of(Range.closedOpen(10L, 20L), Order::price);
+    assertThat(closedOpen.contains(new Order("a", 10))).isEqualTo(true);
+    assertThat(closedOpen.contains(new Order("a", 19))).isEqualTo(true);
+    assertThat(closedOpen.contains(new Order("a", 20))).isEqualTo(false);
+
+    LongKeyRange<Order> greaterThan = LongKeyRange.of(Range.greaterThan(10L), Order::price);
+    assertThat(greaterThan.containsKey(10)).isEqualTo(false);
+    assertThat(greaterThan.containsKey(Long.MAX_VALUE)).isEqualTo(true);
+
+    assertThat(LongKeyRange.of(Range.greaterThan(Long.MAX_VALUE), Order::price).containsKey(Long.MAX_VALUE))
+            .isEqualTo(false);
+    assertThat(LongKeyRange.of(Range.<Long>all(), Order::price).containsKey(Long.MIN_VALUE))
+            .isEqualTo(true);
+  }
+}
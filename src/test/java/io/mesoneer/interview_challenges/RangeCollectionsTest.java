@@ -0,0 +1,83 @@
+package io.mesoneer.interview_challenges;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RangeCollectionsTest {
+
+  private static final List<Integer> SORTED = Arrays.asList(1, 3, 5, 5, 7, 9);
+
+  @Test
+  public void sub_list_should_honor_open_and_closed_bounds() {
+    assertThat(RangeCollections.subList(SORTED, Range.closed(3, 7))).containsExactly(3, 5, 5, 7);
+    assertThat(RangeCollections.subList(SORTED, Range.open(3, 7))).containsExactly(5, 5);
+    assertThat(RangeCollections.subList(SORTED, Range.openClosed(3, 7))).containsExactly(5, 5, 7);
+    assertThat(RangeCollections.subList(SORTED, Range.closedOpen(3, 7))).containsExactly(3, 5, 5);
+    assertThat(RangeCollections.subList(SORTED, Range.open(5, 5))).isEmpty();
+  }
+
+  @Test
+  public void sub_list_should_honor_open_ended_ranges() {
+    assertThat(RangeCollections.subList(SORTED, Range.lessThan(5))).containsExactly(1, 3);
+    assertThat(RangeCollections.subList(SORTED, Range.atMost(5))).containsExactly(1, 3, 5, 5);
+    assertThat(RangeCollections.subList(SORTED, Range.atLeast(5))).containsExactly(5, 5, 7, 9);
+    assertThat(RangeCollections.subList(SORTED, Range.greaterThan(5))).containsExactly(7, 9);
+    assertThat(RangeCollections.subList(SORTED, Range.<Integer>all())).isEqualTo(SORTED);
+  }
+
+  @Test
+  public void sub_list_by_key_should_match_filtering() {
+    List<LocalDate> dates = IntStream.range(0, 100)
+            .mapToObj(day -> LocalDate.of(2020, Month.JANUARY, 1).plusDays(day))
+            .collect(Collectors.toList());
+    Range<Integer> february = Range.closed(32, 60);
+
+    assertThat(RangeCollections.subList(dates, LocalDate::getDayOfYear, february))
+            .isEqualTo(RangeCollections.filter(dates, LocalDate::getDayOfYear, february))
+            .hasSize(29);
+    assertThat(RangeCollections.subList(new LinkedList<>(dates), LocalDate::getDayOfYear, february))
+            .hasSize(29);
+  }
+
+  @Test
+  public void sub_set_and_sub_map_should_return_views() {
+    TreeSet<Integer> set = new TreeSet<>(SORTED);
+    assertThat(RangeCollections.subSet(set, Range.openClosed(3, 7))).containsExactly(5, 7);
+
+    NavigableMap<Integer, String> map = new TreeMap<>();
+    SORTED.forEach(key -> map.put(key, "v" + key));
+    NavigableMap<Integer, String> view = RangeCollections.subMap(map, Range.atLeast(7));
+    assertThat(view.keySet()).containsExactly(7, 9);
+
+    map.put(8, "v8");
+    assertThat(view.keySet()).containsExactly(7, 8, 9);
+  }
+
+  @Test
+  public void sub_set_with_custom_order_should_fall_back_to_filtering() {
+    TreeSet<Integer> descending = new TreeSet<>(Collections.reverseOrder());
+    descending.addAll(SORTED);
+    assertThat(RangeCollections.subSet(descending, Range.closed(3, 7))).containsExactly(7, 5, 3);
+  }
+
+  @Test
+  public void stream_and_collector_should_filter_unsorted_input() {
+    List<Integer> unsorted = Arrays.asList(9, 1, 7, 3, 5);
+    assertThat(RangeCollections.stream(unsorted, Range.closed(3, 7))).containsExactly(7, 3, 5);
+    assertThat(unsorted.stream().collect(RangeCollections.toContained(value -> value, Range.lessThan(5))))
+            .containsExactly(1, 3);
+  }
+}
@@ -0,0 +1,128 @@
+package io.mesoneer.interview_challenges;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RangeMapTest {
+
+  @Test
+  public void get_should_respect_open_and_closed_bounds() {
+    RangeMap<Integer, String> tariffs = new RangeMap<>();
+    tariffs.put(Range.closedOpen(0, 10), "small");
+    tariffs.put(Range.closed(10, 20), "medium");
+    tariffs.put(Range.greaterThan(20), "large");
+
+    assertThat(tariffs.get(-1)).isNull();
+    assertThat(tariffs.get(0)).isEqualTo("small");
+    assertThat(tariffs.get(9)).isEqualTo("small");
+    assertThat(tariffs.get(10)).isEqualTo("medium");
+    assertThat(tariffs.get(20)).isEqualTo("medium");
+    assertThat(tariffs.get(21)).isEqualTo("large");
+    assertThat(tariffs.getRange(21).toString()).isEqualTo("(20, Infinitive]");
+  }
+
+  @Test
+  public void put_should_split_overlapped_range() {
+    RangeMap<Integer, String> map = new RangeMap<>();
+    map.put(Range.closed(0, 100), "a");
+    map.put(Range.open(40, 60), "b");
+
+    assertThat(map.toString()).isEqualTo("{[0, 40]=a, (40, 60)=b, [60, 100]=a}");
+    assertThat(map.get(40)).isEqualTo("a");
+    assertThat(map.get(41)).isEqualTo("b");
+    assertThat(map.get(60)).isEqualTo("a");
+  }
+
+  @Test
+  public void put_should_replace_and_truncate_several_ranges() {
+    RangeMap<BigDecimal, String> rates = new RangeMap<>();
+    rates.put(Range.lessThan(new BigDecimal("10")), "0%");
+    rates.put(Range.closedOpen(new BigDecimal("10"), new BigDecimal("50")), "10%");
+    rates.put(Range.atLeast(new BigDecimal("50")), "20%");
+    rates.put(Range.closed(new BigDecimal("5"), new BigDecimal("60")), "15%");
+
+    assertThat(rates.toString()).isEqualTo("{[Infinitive, 5)=0%, [5, 60]=15%, (60, Infinitive]=20%}");
+    assertThat(rates.get(new BigDecimal("4.99"))).isEqualTo("0%");
+    assertThat(rates.get(new BigDecimal("60.01"))).isEqualTo("20%");
+  }
+
+  @Test
+  public void put_should_ignore_empty_range() {
+    RangeMap<Integer, String> map = new RangeMap<>();
+    map.put(Range.open(5, 5), "empty");
+    assertThat(map.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void immutable_long_range_map_should_match_range_map() {
+    RangeMap<Integer, String> map = new RangeMap<>();
+    map.put(Range.atMost(0), "negative");
+    map.put(Range.open(0, 10), "small");
+    map.put(Range.open(10, 11), "empty");
+    map.put(Range.atLeast(100), "large");
+
+    ImmutableLongRangeMap<String> compact = ImmutableLongRangeMap.copyOf(map);
+
+    assertThat(compact.size()).isEqualTo(3);
+    for (int point = -5; point <= 105; point++) {
+      assertThat(compact.get(point)).isEqualTo(map.get(point));
+    }
+    assertThat(compact.get(Long.MIN_VALUE)).isEqualTo("negative");
+  }
+
+  @Test
+  public void immutable_long_range_map_should_reject_non_integral_keys() {
+    RangeMap<Double, String> map = new RangeMap<>();
+    map.put(Range.closed(1.0, 2.0), "x");
+
+    assertThatThrownBy(() -> ImmutableLongRangeMap.copyOf(map))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void immutable_double_range_map_should_keep_open_and_closed_bounds() {
+    RangeMap<Double, String> map = new RangeMap<>();
+    map.put(Range.lessThan(0.5), "low");
+    map.put(Range.closed(2.0, 2.0), "exact");
+    map.put(Range.open(2.0, 3.5), "mid");
+    map.put(Range.atLeast(3.5), "high");
+
+    ImmutableDoubleRangeMap<String> compact = ImmutableDoubleRangeMap.copyOf(map);
+
+    assertThat(compact.size()).isEqualTo(4);
+    for (double point = -1; point <= 5; point += 0.25) {
+      assertThat(compact.get(point)).isEqualTo(map.get(point));
+    }
+    assertThat(compact.get(0.5)).isNull();
+    assertThat(compact.get(2.0)).isEqualTo("exact");
+    assertThat(compact.get(Math.nextUp(2.0))).isEqualTo("mid");
+    assertThat(compact.get(3.5)).isEqualTo("high");
+    assertThat(compact.get(Double.NaN)).isEqualTo(map.get(Double.NaN)).isEqualTo("high");
+  }
+
+  @Test
+  public void immutable_double_range_map_should_order_signed_zero_like_range_map() {
+    RangeMap<Double, String> map = new RangeMap<>();
+    map.put(Range.lessThan(0.0), "neg");
+    map.put(Range.atLeast(0.0), "nonneg");
+
+    ImmutableDoubleRangeMap<String> compact = ImmutableDoubleRangeMap.copyOf(map);
+
+    assertThat(compact.get(-0.0)).isEqualTo(map.get(-0.0)).isEqualTo("neg");
+    assertThat(compact.get(0.0)).isEqualTo(map.get(0.0)).isEqualTo("nonneg");
+    assertThat(compact.get(Double.NaN)).isEqualTo(map.get(Double.NaN)).isEqualTo("nonneg");
+    assertThat(compact.get(Double.NEGATIVE_INFINITY)).isEqualTo("neg");
+  }
+
+  @Test
+  public void immutable_double_range_map_should_reject_big_decimal_keys() {
+    RangeMap<BigDecimal, String> map = new RangeMap<>();
+    map.put(Range.closed(new BigDecimal("0.1"), new BigDecimal("0.2")), "x");
+
+    assertThatThrownBy(() -> ImmutableDoubleRangeMap.copyOf(map))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+}
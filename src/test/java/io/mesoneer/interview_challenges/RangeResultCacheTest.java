@@ -0,0 +1,122 @@
+package io.mesoneer.interview_challenges;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RangeResultCacheTest {
+    private final RangeService rangeService = new RangeService(new RangeRuleSetHolder());
+
+    @Test
+    public void identical_requests_should_be_evaluated_once() {
+        RangeResultCache cache = new RangeResultCache(60, 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Boolean result = cache.get(new RangeRequest("[5, 7]", "6", "Integer.class"), request -> {
+                calls.incrementAndGet();
+                return rangeService.inRange(request);
+            });
+            assertThat(result).isEqualTo(true);
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void concurrent_identical_requests_should_share_one_evaluation() throws Exception {
+        int callers = 4;
+        RangeResultCache cache = new RangeResultCache(60, 100);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(callers);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    entered.countDown();
+                    return cache.get(new RangeRequest("[5, 7]", "6", "Integer.class"), request -> {
+                        calls.incrementAndGet();
+                        // hold the evaluation until every caller has entered
+                        try {
+                            entered.await();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return rangeService.inRange(request);
+                    });
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(true);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void error_in_loader_should_release_coalesced_callers() {
+        RangeResultCache cache = new RangeResultCache(60, 100);
+        assertThatThrownBy(() -> cache.get(new RangeRequest("[5, 7]", "6", "Integer.class"), request -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        assertThat(cache.get(new RangeRequest("[5, 7]", "6", "Integer.class"), rangeService::inRange))
+                .isEqualTo(true);
+    }
+
+    @Test
+    public void cache_should_be_bounded_and_not_keep_failures() {
+        RangeResultCache cache = new RangeResultCache(60, 2);
+        cache.get(new RangeRequest("[1, 2]", "1", "Integer.class"), rangeService::inRange);
+        cache.get(new RangeRequest("[1, 3]", "1", "Integer.class"), rangeService::inRange);
+        cache.get(new RangeRequest("[1, 4]", "1", "Integer.class"), rangeService::inRange);
+        assertThat(cache.size()).isEqualTo(2);
+
+        assertThatThrownBy(() -> cache.get(new RangeRequest("[9, 1]", "1", "Integer.class"), rangeService::inRange))
+                .hasMessage(EnumException.INVALID_BOUND_EXCEPTION.name());
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void failed_loads_should_not_be_queued_for_eviction() {
+        RangeResultCache cache = new RangeResultCache(60, 10);
+        for (int i = 0; i < 1000; i++) {
+            int lower = i + 1;
+            assertThatThrownBy(() -> cache.get(new RangeRequest("[" + lower + ", 0]", "1", "Integer.class"),
+                    rangeService::inRange))
+                    .hasMessage(EnumException.INVALID_BOUND_EXCEPTION.name());
+        }
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.queued()).isEqualTo(0);
+
+        for (int i = 0; i < 20; i++) {
+            cache.get(new RangeRequest("[0, " + i + "]", "1", "Integer.class"), rangeService::inRange);
+        }
+        assertThat(cache.size()).isEqualTo(10);
+        assertThat(cache.queued()).isEqualTo(10);
+    }
+
+    @Test
+    public void expired_entries_should_be_evaluated_again() {
+        RangeResultCache cache = new RangeResultCache(0, 100);
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            cache.get(new RangeRequest("[5, 7]", "6", "Integer.class"), request -> {
+                calls.incrementAndGet();
+                return rangeService.inRange(request);
+            });
+        }
+        assertThat(calls.get()).isEqualTo(2);
+    }
+}
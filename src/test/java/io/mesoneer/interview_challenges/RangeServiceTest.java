@@ -2,6 +2,9 @@ package io.mesoneer.interview_challenges;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.*;
 
 public class RangeServiceTest {
@@ -9,7 +12,7 @@ public class RangeServiceTest {
 
     @BeforeEach
     public void setUp(){
-        rangeService = new RangeService();
+        rangeService = new RangeService(new RangeRuleSetHolder());
     }
 
     @Test
@@ -21,4 +24,64 @@ public class RangeServiceTest {
         //then - verify the output
         assertThat(isInRange).isEqualTo(true);
     }
+
+    @Test
+    public void check_for_a_value_in_named_rule_should_use_published_rule_set() {
+        rangeService.publishRules(Arrays.asList(
+                new RangeRule("adult", "[18, Infinitive]", "Integer.class"),
+                new RangeRule("year2020", "[2020-01-01, 2020-12-31]", "LocalDate.class")));
+
+        assertThat(rangeService.inRule("adult", "18")).isEqualTo(true);
+        assertThat(rangeService.inRule("adult", "17")).isEqualTo(false);
+        assertThat(rangeService.inRule("year2020", "2020-06-15")).isEqualTo(true);
+        assertThat(rangeService.ruleSetMetrics().getVersion()).isEqualTo(1);
+        assertThat(rangeService.ruleSetMetrics().getRuleCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalid_rule_upload_should_keep_current_rule_set() {
+        rangeService.publishRules(Collections.singletonList(
+                new RangeRule("adult", "[18, Infinitive]", "Integer.class")));
+
+        assertThatThrownBy(() -> rangeService.publishRules(Collections.singletonList(
+                new RangeRule("adult", "[20, 10]", "Integer.class"))))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(rangeService.inRule("adult", "18")).isEqualTo(true);
+        assertThat(rangeService.ruleSetMetrics().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    public void duplicate_or_incomplete_rules_should_reject_upload() {
+        rangeService.publishRules(Collections.singletonList(
+                new RangeRule("adult", "[18, Infinitive]", "Integer.class")));
+
+        assertThatThrownBy(() -> rangeService.publishRules(Arrays.asList(
+                new RangeRule("teen", "[13, 18)", "Integer.class"),
+                new RangeRule("teen", "[13, 20)", "Integer.class"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(EnumException.INVALID_RULE_EXCEPTION.name());
+        assertThatThrownBy(() -> rangeService.publishRules(Collections.singletonList(
+                new RangeRule(null, "[13, 18)", "Integer.class"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(EnumException.INVALID_RULE_EXCEPTION.name());
+        assertThatThrownBy(() -> rangeService.publishRules(Collections.singletonList(
+                new RangeRule("teen", null, "Integer.class"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(EnumException.INVALID_RULE_EXCEPTION.name());
+        assertThatThrownBy(() -> rangeService.publishRules(Collections.singletonList(
+                new RangeRule("teen", "[13, 18)", null))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(EnumException.CLASS_NOT_FOUND_EXCEPTION.name());
+
+        assertThat(rangeService.ruleSetMetrics().getVersion()).isEqualTo(1);
+        assertThat(rangeService.ruleSetMetrics().getRuleCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void unknown_rule_should_throw_rule_not_found() {
+        assertThatThrownBy(() -> rangeService.inRule("missing", "1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(EnumException.RULE_NOT_FOUND_EXCEPTION.name());
+    }
 }
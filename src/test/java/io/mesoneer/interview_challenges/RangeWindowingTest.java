@@ -0,0 +1,179 @@
+package io.mesoneer.interview_challenges;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RangeWindowingTest {
+
+  private static LocalDate day(int dayOfMonth) {
+    return LocalDate.of(2020, Month.JANUARY, dayOfMonth);
+  }
+
+  @Test
+  public void windows_should_be_emitted_when_an_event_passes_their_upper_bound() {
+    List<RangeWindowing.Window<LocalDate, Long>> emitted = new ArrayList<>();
+    RangeWindowing<LocalDate, LocalDate, ?, Long> windowing = new RangeWindowing<>(
+            Arrays.asList(Range.closedOpen(day(1), day(8)), Range.closed(day(5), day(10))),
+            event -> event,
+            Collectors.counting(),
+            emitted::add);
+
+    windowing.accept(day(2));
+    windowing.accept(day(6));
+    assertThat(emitted).isEmpty();
+    assertThat(windowing.openWindows()).isEqualTo(2);
+
+    windowing.accept(day(8));
+    assertThat(emitted).hasSize(1);
+    assertThat(emitted.get(0).range().toString()).isEqualTo("[2020-01-01, 2020-01-08)");
+    assertThat(emitted.get(0).result()).isEqualTo(2L);
+
+    windowing.accept(day(11));
+    assertThat(emitted).hasSize(2);
+    assertThat(emitted.get(1).result()).isEqualTo(2L);
+    assertThat(windowing.openWindows()).isZero();
+  }
+
+  @Test
+  public void finish_should_emit_open_ended_and_empty_windows() {
+    List<RangeWindowing.Window<LocalDate, Long>> emitted = new ArrayList<>();
+    RangeWindowing<LocalDate, LocalDate, ?, Long> windowing = new RangeWindowing<>(
+            Arrays.asList(Range.atLeast(day(3)), Range.closed(day(20), day(25))),
+            event -> event,
+            Collectors.counting(),
+            emitted::add);
+
+    windowing.accept(day(3));
+    windowing.accept(day(4));
+    windowing.finish();
+
+    assertThat(emitted).extracting(RangeWindowing.Window::count).containsExactly(2L, 0L);
+  }
+
+  @Test
+  public void late_events_should_be_dropped() {
+    List<RangeWindowing.Window<Instant, Long>> emitted = new ArrayList<>();
+    Instant start = Instant.parse("2020-01-01T00:00:00Z");
+    RangeWindowing<Instant, Instant, ?, Long> windowing = new RangeWindowing<>(
+            Arrays.asList(Range.closedOpen(start, start.plusSeconds(60))),
+            event -> event,
+            Collectors.counting(),
+            emitted::add);
+
+    windowing.accept(start.plusSeconds(30));
+    windowing.accept(start.plusSeconds(10));
+    windowing.advanceTo(start.plusSeconds(60));
+
+    assertThat(windowing.lateEvents()).isEqualTo(1);
+    assertThat(emitted).extracting(RangeWindowing.Window::result).containsExactly(1L);
+  }
+
+  @Test
+  public void advance_to_an_earlier_time_should_not_move_the_watermark_back() {
+    List<RangeWindowing.Window<Integer, Long>> emitted = new ArrayList<>();
+    RangeWindowing<Integer, Integer, ?, Long> windowing = new RangeWindowing<>(
+            Arrays.asList(Range.closed(0, 5), Range.closed(10, 20)),
+            event -> event,
+            Collectors.counting(),
+            emitted::add);
+
+    windowing.accept(12);
+    windowing.advanceTo(1);
+    windowing.accept(3);
+    windowing.finish();
+
+    assertThat(windowing.lateEvents()).isEqualTo(1);
+    assertThat(emitted.stream().map(window -> window.range() + "=" + window.count()))
+            .containsExactly("[0, 5]=0", "[10, 20]=1");
+  }
+
+  @Test
+  public void closed_lower_bound_should_open_before_open_one_on_same_value() {
+    List<RangeWindowing.Window<Integer, Long>> emitted = new ArrayList<>();
+    RangeWindowing<Integer, Integer, ?, Long> windowing = new RangeWindowing<>(
+            Arrays.asList(Range.open(5, 10), Range.closed(5, 10)),
+            event -> event,
+            Collectors.counting(),
+            emitted::add);
+
+    windowing.accept(5);
+    windowing.accept(6);
+    windowing.finish();
+
+    assertThat(emitted.stream().map(window -> window.range() + "=" + window.count()))
+            .containsExactlyInAnyOrder("(5, 10)=1", "[5, 10]=2");
+  }
+
+  @Test
+  public void open_upper_bound_should_close_before_closed_one_on_same_value() {
+    List<RangeWindowing.Window<Integer, Long>> emitted = new ArrayList<>();
+    RangeWindowing<Integer, Integer, ?, Long> windowing = new RangeWindowing<>(
+            Arrays.asList(Range.openClosed(1, 7), Range.closedOpen(5, 7)),
+            event -> event,
+            Collectors.counting(),
+            emitted::add);
+
+    windowing.accept(3);
+    windowing.accept(7);
+    windowing.finish();
+
+    assertThat(emitted.stream().map(window -> window.range() + "=" + window.count()))
+            .containsExactly("[5, 7)=0", "(1, 7]=2");
+  }
+
+  @Test
+  public void counts_should_match_contains_for_random_windows_and_events() {
+    Random random = new Random(29);
+    for (int run = 0; run < 2000; run++) {
+      List<Range<Integer>> windows = new ArrayList<>();
+      for (int i = 0; i < 1 + random.nextInt(5); i++) {
+        windows.add(randomRange(random));
+      }
+      List<Integer> events = new ArrayList<>();
+      for (int i = 0; i < random.nextInt(10); i++) {
+        events.add(random.nextInt(16));
+      }
+      events.sort(null);
+
+      Map<Range<Integer>, Long> counts = new IdentityHashMap<>();
+      RangeWindowing<Integer, Integer, ?, Long> windowing = new RangeWindowing<>(
+              windows, event -> event, Collectors.counting(), window -> counts.put(window.range(), window.count()));
+      events.forEach(windowing);
+      windowing.finish();
+
+      for (Range<Integer> window : windows) {
+        assertThat(counts.get(window))
+                .as("%s with events %s", window, events)
+                .isEqualTo(events.stream().filter(window::contains).count());
+      }
+    }
+  }
+
+  private static Range<Integer> randomRange(Random random) {
+    int lower = random.nextInt(10);
+    int upper = lower + random.nextInt(5);
+    switch (random.nextInt(9)) {
+      case 0: return Range.closed(lower, upper);
+      case 1: return Range.open(lower, upper);
+      case 2: return Range.openClosed(lower, upper);
+      case 3: return Range.closedOpen(lower, upper);
+      case 4: return Range.lessThan(upper);
+      case 5: return Range.atLeast(lower);
+      case 6: return Range.atMost(upper);
+      case 7: return Range.greaterThan(lower);
+      default: return Range.all();
+    }
+  }
+}
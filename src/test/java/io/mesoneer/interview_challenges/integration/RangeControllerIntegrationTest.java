@@ -3,6 +3,9 @@ package io.mesoneer.interview_challenges.integration;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mesoneer.interview_challenges.RangeRequest;
+import io.mesoneer.interview_challenges.RangeResultCache;
+import io.mesoneer.interview_challenges.RangeRule;
+import io.mesoneer.interview_challenges.RangeRuleRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -11,6 +14,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.Arrays;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
@@ -35,4 +40,80 @@ public class RangeControllerIntegrationTest {
         response.andExpect(status().isOk())
                 .andExpect(content().string("true"));
     }
+
+    @Test
+    public void given_matching_etag_should_return_not_modified() throws Exception {
+        String etag = mockMvc.perform(get("/api/range")
+                        .param("range", "[5, 7]")
+                        .param("value", "6")
+                        .param("classDefinition", "Integer.class"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/range")
+                        .param("range", "[5, 7]")
+                        .param("value", "6")
+                        .param("classDefinition", "Integer.class")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void given_invalid_query_should_not_return_etag() throws Exception {
+        mockMvc.perform(get("/api/range")
+                        .param("range", "[9, 1]")
+                        .param("value", "6")
+                        .param("classDefinition", "Integer.class"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(header().doesNotExist("ETag"));
+
+        mockMvc.perform(get("/api/range")
+                        .param("range", "[9, 1]")
+                        .param("value", "6")
+                        .param("classDefinition", "Integer.class")
+                        .header("If-None-Match", RangeResultCache.etag(new RangeRequest("[9, 1]", "6", "Integer.class"))))
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().string("INVALID_BOUND_EXCEPTION"));
+    }
+
+    @Test
+    public void given_uploaded_rule_set_should_check_value_against_named_rule() throws Exception {
+        String upload = mockMvc.perform(put("/api/range/rules")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(
+                                new RangeRule("adult", "[18, Infinitive]", "Integer.class"),
+                                new RangeRule("teen", "[13, 18)", "Integer.class")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ruleCount").value(2))
+                .andReturn().getResponse().getContentAsString();
+        long version = objectMapper.readTree(upload).get("version").asLong();
+
+        mockMvc.perform(post("/api/range/rules/adult")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RangeRuleRequest("18"))))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+
+        mockMvc.perform(post("/api/range/rules/teen")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RangeRuleRequest("18"))))
+                .andExpect(status().isOk())
+                .andExpect(content().string("false"));
+
+        mockMvc.perform(get("/api/range/rules/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(version))
+                .andExpect(jsonPath("$.ruleCount").value(2));
+    }
+
+    @Test
+    public void given_invalid_rule_upload_should_return_error() throws Exception {
+        mockMvc.perform(put("/api/range/rules")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(
+                                new RangeRule("broken", "[9, 1]", "Integer.class")))))
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().string("INVALID_BOUND_EXCEPTION"));
+    }
 }
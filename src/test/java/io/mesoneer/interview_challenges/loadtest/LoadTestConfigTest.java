@@ -0,0 +1,42 @@
+package io.mesoneer.interview_challenges.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class LoadTestConfigTest {
+
+    private static Properties properties(String key, String value) {
+        Properties properties = new Properties();
+        properties.setProperty(LoadTestConfig.PREFIX + key, value);
+        return properties;
+    }
+
+    @Test
+    public void parse_weights_should_keep_order_and_default_to_one() {
+        assertThat(LoadTestConfig.parseWeights(" Integer.class:4, String.class ,,CLOSED:0"))
+                .containsExactly(entry("Integer.class", 4), entry("String.class", 1), entry("CLOSED", 0));
+    }
+
+    @Test
+    public void parse_weights_should_reject_empty_list_and_bad_weight() {
+        assertThatThrownBy(() -> LoadTestConfig.parseWeights(" , "))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadTestConfig.parseWeights("Integer.class:many"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void invalid_settings_should_be_named_in_the_error() {
+        assertThatThrownBy(() -> LoadTestConfig.fromProperties(properties("rate", "0")))
+                .hasMessage("rate must be positive");
+        assertThatThrownBy(() -> LoadTestConfig.fromProperties(properties("durationSeconds", "0")))
+                .hasMessage("durationSeconds must be positive");
+        assertThatThrownBy(() -> LoadTestConfig.fromProperties(properties("warmupSeconds", "-1")))
+                .hasMessage("warmupSeconds must not be negative");
+        assertThatThrownBy(() -> LoadTestConfig.fromProperties(properties("maxInFlight", "0")))
+                .hasMessage("maxInFlight must be positive");
+    }
+}
@@ -0,0 +1,34 @@
+package io.mesoneer.interview_challenges.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RequestGeneratorTest {
+
+    private static List<String> generate(long seed, int count) {
+        Properties properties = new Properties();
+        properties.setProperty(LoadTestConfig.PREFIX + "seed", String.valueOf(seed));
+        RequestGenerator generator = new RequestGenerator(LoadTestConfig.fromProperties(properties));
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RequestGenerator.GeneratedRequest request = generator.next();
+            bodies.add(request.valid() + " " + request.body());
+        }
+        return bodies;
+    }
+
+    @Test
+    public void same_seed_should_give_same_requests() {
+        assertThat(generate(7, 1000)).isEqualTo(generate(7, 1000));
+    }
+
+    @Test
+    public void different_seed_should_give_different_requests() {
+        assertThat(generate(7, 1000)).isNotEqualTo(generate(8, 1000));
+    }
+}